@@ -0,0 +1,123 @@
+package io.zeko.validation;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only {@link CharSequence} view over a range of ASCII bytes. Each byte is one char, so rules that scan
+ * characters run directly over the raw bytes without decoding them into a {@link String}.
+ * <p>
+ * Use {@link #of(byte[], int, int)} or {@link #of(ByteBuffer)} to obtain a sequence: ASCII content is wrapped
+ * in place, any other content is decoded as UTF-8.
+ */
+public final class AsciiCharSequence implements CharSequence {
+
+    private final byte[] array;
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    private AsciiCharSequence(byte[] array, int offset, int length) {
+        this.array = array;
+        this.buffer = null;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    private AsciiCharSequence(ByteBuffer buffer, int offset, int length) {
+        this.array = null;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns a view over the byte range when it is pure ASCII, otherwise the range decoded as UTF-8.
+     *
+     * @param bytes  source bytes
+     * @param offset index of the first byte
+     * @param length number of bytes
+     * @return char sequence for the byte range, null if bytes is null
+     */
+    public static CharSequence of(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
+            return null;
+        }
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", size " + bytes.length);
+        }
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (bytes[i] < 0) {
+                return new String(bytes, offset, length, StandardCharsets.UTF_8);
+            }
+        }
+        return new AsciiCharSequence(bytes, offset, length);
+    }
+
+    public static CharSequence of(byte[] bytes) {
+        return bytes == null ? null : of(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Returns a view over the remaining bytes of the buffer when they are pure ASCII, otherwise the remaining bytes
+     * decoded as UTF-8. The position and limit of the buffer are not modified.
+     *
+     * @param buffer source buffer, heap or direct
+     * @return char sequence for the remaining bytes, null if buffer is null
+     */
+    public static CharSequence of(ByteBuffer buffer) {
+        if (buffer == null) {
+            return null;
+        }
+        if (buffer.hasArray()) {
+            return of(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        int start = buffer.position();
+        int end = buffer.limit();
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) < 0) {
+                return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+            }
+        }
+        return new AsciiCharSequence(buffer, start, end - start);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+        }
+        if (array != null) {
+            return (char) array[offset + index];
+        }
+        return (char) buffer.get(offset + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        if (array != null) {
+            return new AsciiCharSequence(array, offset + start, end - start);
+        }
+        return new AsciiCharSequence(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        if (array != null) {
+            return new String(array, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        byte[] copy = new byte[length];
+        for (int i = 0; i < length; i++) {
+            copy[i] = buffer.get(offset + i);
+        }
+        return new String(copy, StandardCharsets.ISO_8859_1);
+    }
+}
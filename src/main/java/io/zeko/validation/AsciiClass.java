@@ -0,0 +1,112 @@
+package io.zeko.validation;
+
+/**
+ * Lookup table of character classes for the ASCII rules such as alphaNum, digit or hasLetter.
+ * <p>
+ * {@link #scan} ORs the class bit of every character of a value, so any number of these rules is answered from one
+ * pass without allocating. The classes follow {@link java.util.regex.Pattern}: \s is [ \t\n\x0B\f\r] and the dot of
+ * .* does not match a line terminator.
+ */
+final class AsciiClass {
+    static final int LOWER = 1;
+    static final int UPPER = 1 << 1;
+    static final int DIGIT = 1 << 2;
+    /** \n and \r */
+    static final int LINE_SPACE = 1 << 3;
+    /** space, \t, \x0B and \f */
+    static final int SPACE_OTHER = 1 << 4;
+    static final int DASH = 1 << 5;
+    static final int UNDERSCORE = 1 << 6;
+    static final int QUOTE = 1 << 7;
+    static final int OTHER = 1 << 8;
+    static final int NON_ASCII = 1 << 9;
+    /** next line, line separator and paragraph separator, always with NON_ASCII */
+    static final int NON_ASCII_LINE = 1 << 10;
+
+    static final int LETTER = LOWER | UPPER;
+    static final int SPACE = LINE_SPACE | SPACE_OTHER;
+    static final int ALPHA_NUM = LETTER | DIGIT;
+    static final int LINE_TERMINATOR = LINE_SPACE | NON_ASCII_LINE;
+
+    private static final int[] TABLE = new int[128];
+
+    static {
+        for (int c = 0; c < 128; c++) {
+            int cls = OTHER;
+            if (c >= 'a' && c <= 'z') {
+                cls = LOWER;
+            } else if (c >= 'A' && c <= 'Z') {
+                cls = UPPER;
+            } else if (c >= '0' && c <= '9') {
+                cls = DIGIT;
+            } else if (c == '\n' || c == '\r') {
+                cls = LINE_SPACE;
+            } else if (c == ' ' || c == '\t' || c == 0x0B || c == '\f') {
+                cls = SPACE_OTHER;
+            } else if (c == '-') {
+                cls = DASH;
+            } else if (c == '_') {
+                cls = UNDERSCORE;
+            } else if (c == '\'') {
+                cls = QUOTE;
+            }
+            TABLE[c] = cls;
+        }
+    }
+
+    private AsciiClass() {
+    }
+
+    /**
+     * @return class bits of one char
+     */
+    static int of(char c) {
+        if (c < 128) {
+            return TABLE[c];
+        }
+        return c == 0x85 || c == 0x2028 || c == 0x2029 ? NON_ASCII | NON_ASCII_LINE : NON_ASCII;
+    }
+
+    /**
+     * @return OR of the class bits of every char, 0 for an empty value
+     */
+    static int scan(CharSequence s) {
+        if (s instanceof String && s.length() >= AsciiClassVector.MIN_LENGTH && AsciiClassVector.isAvailable()) {
+            return AsciiClassVector.scan((String) s);
+        }
+        return scanChars(s);
+    }
+
+    /**
+     * Char loop of {@link #scan}, without the bulk scan
+     */
+    static int scanChars(CharSequence s) {
+        int seen = 0;
+        for (int i = 0; i < s.length(); i++) {
+            seen |= of(s.charAt(i));
+        }
+        return seen;
+    }
+
+    /**
+     * Same as ^[classes]+$
+     */
+    static boolean only(int seen, int classes) {
+        return seen != 0 && (seen & ~classes) == 0;
+    }
+
+    /**
+     * Same as .*[classes].*
+     */
+    static boolean has(int seen, int classes) {
+        return (seen & classes) != 0 && (seen & LINE_TERMINATOR) == 0;
+    }
+
+    static boolean only(CharSequence s, int classes) {
+        return only(scan(s), classes);
+    }
+
+    static boolean has(CharSequence s, int classes) {
+        return has(scan(s), classes);
+    }
+}
@@ -0,0 +1,22 @@
+package io.zeko.validation;
+
+/**
+ * Bulk scan of long values for {@link AsciiClass}. On Java 11 to 20 there is none and {@link AsciiClass#scan} loops
+ * over the chars; {@link #scan} is the same char loop. The multi-release layer in src/main/java21 replaces this class
+ * with a Vector API scan.
+ */
+final class AsciiClassVector {
+    /** values shorter than this are not worth the bulk scan */
+    static final int MIN_LENGTH = 256;
+
+    private AsciiClassVector() {
+    }
+
+    static boolean isAvailable() {
+        return false;
+    }
+
+    static int scan(String s) {
+        return AsciiClass.scanChars(s);
+    }
+}
@@ -0,0 +1,201 @@
+package io.zeko.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Validation engine for rules that need I/O, e.g. "username not taken" or "coupon exists", without blocking the
+ * calling thread.
+ * <p>
+ * Synchronous rules given to {@link #must} are evaluated immediately, the same as {@link ValidationEngine}. The
+ * asynchronous rules given to {@link #mustAsync} are started together by {@link #validate()} only when every
+ * synchronous rule passed, so invalid input never triggers a remote lookup.
+ * <p>
+ * In Note-First mode the result completes as soon as one asynchronous rule fails. In Note-All mode it completes once
+ * every asynchronous rule finished, with the failures noted in the order the rules were defined. A rule whose stage
+ * completes exceptionally is considered failed. Messages are added to the note while holding its monitor, so several
+ * fields can be validated concurrently against the same note.
+ * <p>
+ * validAsync(username, "username", note)<br>
+ * .required("required")<br>
+ * .must(s -&gt; s.length() &gt;= 3, "too short")<br>
+ * .mustAsync(s -&gt; users.notTaken(s), "username taken")<br>
+ * .validate();<br>
+ *
+ * @param <T> type of the value being validated
+ */
+public class AsyncValidationEngine<T> {
+
+    private final ValidationEngine<T, ValidationEngine> engine;
+    private final List<AsyncRule<T>> asyncRules;
+
+    protected AsyncValidationEngine(String fieldName, T value, Note note, boolean failOnFirst) {
+        this.engine = new ValidationEngine<>(fieldName, value, note);
+        this.engine.setFailOnFirst(failOnFirst);
+        this.asyncRules = new ArrayList<>();
+    }
+
+    protected AsyncValidationEngine(T value) {
+        this.engine = new ValidationEngine<>(value);
+        this.asyncRules = new ArrayList<>();
+    }
+
+    /**
+     * Set the null value to be considered as a validation error. No other rule is evaluated for a null value.
+     *
+     * @param message error message
+     * @return validation engine
+     */
+    public AsyncValidationEngine<T> required(String message) {
+        engine.setNullIsValid(false);
+        engine.mustFatally(Objects::nonNull, message);
+        return this;
+    }
+
+    /**
+     * Set the null value to be considered as valid. No other rule is evaluated for a null value.
+     *
+     * @return validation engine
+     */
+    public AsyncValidationEngine<T> optional() {
+        engine.setNullIsValid(true);
+        return this;
+    }
+
+    public AsyncValidationEngine<T> must(Predicate<T> predicate, String message) {
+        engine.must(predicate, message);
+        return this;
+    }
+
+    public AsyncValidationEngine<T> must(Predicate<T> predicate, String message, String ruleDescribe) {
+        engine.must(predicate, message, ruleDescribe);
+        return this;
+    }
+
+    /**
+     * Set the value for which the stage returned by the rule completes with false to be considered as invalid.
+     *
+     * @param rule    asynchronous rule, started by {@link #validate()}
+     * @param message validation error
+     * @return validation engine
+     */
+    public AsyncValidationEngine<T> mustAsync(Function<T, ? extends CompletionStage<Boolean>> rule, String message) {
+        return mustAsync(rule, message, null);
+    }
+
+    public AsyncValidationEngine<T> mustAsync(Function<T, ? extends CompletionStage<Boolean>> rule, String message, String ruleDescribe) {
+        asyncRules.add(new AsyncRule<>(rule, message, ruleDescribe));
+        return this;
+    }
+
+    /**
+     * Starts the asynchronous rules.
+     *
+     * @return stage completed with the note once the outcome of the field is known. In Fail-Fast mode the stage
+     * completes exceptionally with {@link io.zeko.validation.excpetion.ValidationErrorException} instead.
+     */
+    public CompletionStage<Note> validate() {
+        final Note note = engine.getNote();
+        if (asyncRules.isEmpty() || engine.hasFailed() || !engine.shouldEvaluate()) {
+            return CompletableFuture.completedFuture(note);
+        }
+
+        final T value = engine.getValue();
+        final int size = asyncRules.size();
+        final boolean[] passed = new boolean[size];
+        final AtomicInteger remaining = new AtomicInteger(size);
+        final AtomicBoolean done = new AtomicBoolean();
+        final CompletableFuture<Note> result = new CompletableFuture<>();
+
+        for (int i = 0; i < size; i++) {
+            final int index = i;
+            CompletionStage<Boolean> stage;
+            try {
+                stage = asyncRules.get(i).rule.apply(value);
+            } catch (RuntimeException err) {
+                stage = CompletableFuture.completedFuture(false);
+            }
+
+            stage.whenComplete((valid, err) -> {
+                passed[index] = err == null && Boolean.TRUE.equals(valid);
+
+                if (!passed[index] && engine.isFailOnFirst()) {
+                    if (done.compareAndSet(false, true)) {
+                        complete(result, note, new int[]{index});
+                    }
+                } else if (remaining.decrementAndGet() == 0 && done.compareAndSet(false, true)) {
+                    int failures = 0;
+                    for (boolean p : passed) {
+                        if (!p) failures++;
+                    }
+                    int[] failed = new int[failures];
+                    for (int j = 0, k = 0; j < size; j++) {
+                        if (!passed[j]) failed[k++] = j;
+                    }
+                    complete(result, note, failed);
+                }
+            });
+        }
+        return result;
+    }
+
+    private void complete(CompletableFuture<Note> result, Note note, int[] failed) {
+        try {
+            if (note != null) {
+                synchronized (note) {
+                    markAsFailed(failed);
+                }
+            } else {
+                markAsFailed(failed);
+            }
+            result.complete(note);
+        } catch (RuntimeException err) {
+            result.completeExceptionally(err);
+        }
+    }
+
+    private void markAsFailed(int[] failed) {
+        for (int index : failed) {
+            AsyncRule<T> r = asyncRules.get(index);
+            if (r.ruleDescribe != null) {
+                engine.must(v -> false, r.message, r.ruleDescribe);
+            } else {
+                engine.must(v -> false, r.message);
+            }
+        }
+    }
+
+    /**
+     * Validates several fields concurrently.
+     *
+     * @param note   note shared by the fields
+     * @param fields fields to validate
+     * @return stage completed with the note once every field is validated
+     */
+    public static CompletionStage<Note> validateAll(Note note, AsyncValidationEngine<?>... fields) {
+        CompletableFuture<?>[] all = new CompletableFuture<?>[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            all[i] = fields[i].validate().toCompletableFuture();
+        }
+        return CompletableFuture.allOf(all).thenApply(v -> note);
+    }
+
+    private static class AsyncRule<T> {
+        final Function<T, ? extends CompletionStage<Boolean>> rule;
+        final String message;
+        final String ruleDescribe;
+
+        AsyncRule(Function<T, ? extends CompletionStage<Boolean>> rule, String message, String ruleDescribe) {
+            this.rule = rule;
+            this.message = message;
+            this.ruleDescribe = ruleDescribe;
+        }
+    }
+}
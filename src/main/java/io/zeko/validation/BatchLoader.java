@@ -0,0 +1,171 @@
+package io.zeko.validation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Coalesces lookups of asynchronous rules into bulk calls.
+ * <p>
+ * Keys requested by concurrent validations are collected for a short window, or until the batch holds the maximum
+ * number of keys, and then handed to the bulk loader in a single call. The result is fanned out to every waiting
+ * validation. A key that is already waiting or in flight is not requested again, its pending result is shared. Each
+ * caller gets its own copy of the result, so completing or cancelling it does not affect the other callers.
+ * <p>
+ * BatchLoader&lt;String, Coupon&gt; coupons = new BatchLoader&lt;&gt;(codes -&gt; repo.findAll(codes), 100, 5);<br>
+ * validAsync(code, "coupon", note).mustAsync(coupons.exists(), "coupon not found");<br>
+ *
+ * @param <K> lookup key
+ * @param <V> loaded value, absent keys are completed with null
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<Set<K>, ? extends CompletionStage<Map<K, V>>> bulkLoader;
+    private final int maxBatchSize;
+    private final Executor delayedFlush;
+    private final Map<K, CompletableFuture<V>> inFlight = new HashMap<>();
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private long batch;
+
+    /**
+     * @param bulkLoader   loads the values of a set of keys, keys missing from the returned map are absent
+     * @param maxBatchSize number of keys that triggers a bulk call before the window elapses
+     * @param windowMillis time the first key of a batch waits for more keys
+     */
+    public BatchLoader(Function<Set<K>, ? extends CompletionStage<Map<K, V>>> bulkLoader, int maxBatchSize, long windowMillis) {
+        this(bulkLoader, maxBatchSize, CompletableFuture.delayedExecutor(windowMillis, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * @param bulkLoader   loads the values of a set of keys, keys missing from the returned map are absent
+     * @param maxBatchSize number of keys that triggers a bulk call before the window elapses
+     * @param delayedFlush executor that runs the window flush once the window elapsed
+     */
+    public BatchLoader(Function<Set<K>, ? extends CompletionStage<Map<K, V>>> bulkLoader, int maxBatchSize, Executor delayedFlush) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.bulkLoader = bulkLoader;
+        this.maxBatchSize = maxBatchSize;
+        this.delayedFlush = delayedFlush;
+    }
+
+    /**
+     * Requests the value of a key as part of the next batch.
+     *
+     * @param key lookup key
+     * @return stage completed with the value, or null if the key is absent; a copy of the shared result
+     */
+    public CompletableFuture<V> load(K key) {
+        Map<K, CompletableFuture<V>> ready = null;
+        CompletableFuture<V> future;
+
+        synchronized (this) {
+            future = inFlight.get(key);
+            if (future == null) {
+                future = pending.get(key);
+            }
+            if (future != null) {
+                return future.copy();
+            }
+
+            future = new CompletableFuture<>();
+            pending.put(key, future);
+
+            if (pending.size() >= maxBatchSize) {
+                ready = takePending();
+            } else if (pending.size() == 1) {
+                final long current = batch;
+                delayedFlush.execute(() -> flush(current));
+            }
+        }
+
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return future.copy();
+    }
+
+    /**
+     * Sends the keys collected so far without waiting for the window to elapse.
+     */
+    public void flush() {
+        Map<K, CompletableFuture<V>> ready;
+        synchronized (this) {
+            ready = pending.isEmpty() ? null : takePending();
+        }
+        if (ready != null) {
+            dispatch(ready);
+        }
+    }
+
+    private void flush(long expectedBatch) {
+        Map<K, CompletableFuture<V>> ready;
+        synchronized (this) {
+            ready = batch != expectedBatch || pending.isEmpty() ? null : takePending();
+        }
+        if (ready != null) {
+            dispatch(ready);
+        }
+    }
+
+    private Map<K, CompletableFuture<V>> takePending() {
+        Map<K, CompletableFuture<V>> ready = pending;
+        pending = new LinkedHashMap<>();
+        batch++;
+        inFlight.putAll(ready);
+        return ready;
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> ready) {
+        CompletionStage<Map<K, V>> stage;
+        try {
+            stage = bulkLoader.apply(Collections.unmodifiableSet(ready.keySet()));
+        } catch (RuntimeException err) {
+            stage = CompletableFuture.failedFuture(err);
+        }
+
+        stage.whenComplete((values, err) -> {
+            synchronized (this) {
+                inFlight.keySet().removeAll(ready.keySet());
+            }
+            ready.forEach((key, future) -> {
+                if (err != null) {
+                    future.completeExceptionally(err);
+                } else {
+                    future.complete(values == null ? null : values.get(key));
+                }
+            });
+        });
+    }
+
+    /**
+     * @return asynchronous rule that passes when the key is present
+     */
+    public Function<K, CompletionStage<Boolean>> exists() {
+        return (key) -> load(key).thenApply(v -> v != null);
+    }
+
+    /**
+     * @return asynchronous rule that passes when the key is absent, e.g. "username not taken"
+     */
+    public Function<K, CompletionStage<Boolean>> notExists() {
+        return (key) -> load(key).thenApply(v -> v == null);
+    }
+
+    /**
+     * @param predicate test against the loaded value, null when the key is absent
+     * @return asynchronous rule that passes when the loaded value passes the predicate
+     */
+    public Function<K, CompletionStage<Boolean>> matches(Predicate<V> predicate) {
+        return (key) -> load(key).thenApply(predicate::test);
+    }
+}
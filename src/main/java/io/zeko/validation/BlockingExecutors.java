@@ -0,0 +1,31 @@
+package io.zeko.validation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor for blocking rules. On Java 11 to 20 this is a shared cached pool of daemon threads. The multi-release
+ * layer in src/main/java21 replaces this class so that each blocking rule runs on its own virtual thread.
+ */
+final class BlockingExecutors {
+
+    private static final AtomicInteger COUNT = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "zeko-validator-blocking-" + COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private BlockingExecutors() {
+    }
+
+    static ExecutorService executor() {
+        return EXECUTOR;
+    }
+
+    static boolean isVirtual() {
+        return false;
+    }
+}
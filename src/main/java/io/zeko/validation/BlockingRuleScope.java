@@ -0,0 +1,113 @@
+package io.zeko.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Scope for running blocking custom rules (JDBC or file lookups) of one form off the calling thread, with a deadline
+ * for the whole form.
+ * <p>
+ * On Java 21 or later every blocking rule runs on its own virtual thread, on earlier versions on a shared pool of
+ * daemon threads. A rule still running when the deadline passes fails the field and its thread is interrupted.
+ * Closing the scope interrupts whatever is still running, so no rule outlives the form it was started for.
+ * <p>
+ * try (BlockingRuleScope scope = new BlockingRuleScope(200)) {<br>
+ * &nbsp;&nbsp;AsyncValidationEngine&lt;String&gt; user = validAsync(username, "username", note)<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;.mustAsync(scope.blocking(s -&gt; userDao.notTaken(s)), "username taken");<br>
+ * &nbsp;&nbsp;scope.join(note, user);<br>
+ * }
+ */
+public class BlockingRuleScope implements AutoCloseable {
+
+    private final long deadlineNanos;
+    private final List<Future<?>> tasks = new ArrayList<>();
+    private boolean closed;
+
+    /**
+     * @param deadlineMillis time the whole form is allowed to spend on blocking rules
+     */
+    public BlockingRuleScope(long deadlineMillis) {
+        this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+    }
+
+    /**
+     * Wraps a blocking predicate into an asynchronous rule for {@link AsyncValidationEngine#mustAsync}.
+     *
+     * @param predicate blocking rule
+     * @return asynchronous rule that runs the predicate within this scope
+     */
+    public <T> Function<T, CompletionStage<Boolean>> blocking(Predicate<T> predicate) {
+        return (value) -> submit(predicate, value);
+    }
+
+    private <T> CompletionStage<Boolean> submit(Predicate<T> predicate, T value) {
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        final long remaining = deadlineNanos - System.nanoTime();
+        if (remaining <= 0) {
+            result.complete(false);
+            return result;
+        }
+
+        final Future<?> task;
+        synchronized (tasks) {
+            if (closed) {
+                result.complete(false);
+                return result;
+            }
+            task = BlockingExecutors.executor().submit(() -> {
+                try {
+                    result.complete(predicate.test(value));
+                } catch (Throwable err) {
+                    result.completeExceptionally(err);
+                }
+            });
+            tasks.add(task);
+        }
+
+        result.orTimeout(remaining, TimeUnit.NANOSECONDS)
+                .whenComplete((valid, err) -> {
+                    if (err != null) {
+                        task.cancel(true);
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * Validates the fields and waits for the outcome, at most until the deadline of this scope.
+     *
+     * @param note   note shared by the fields
+     * @param fields fields to validate
+     * @return the note
+     */
+    public Note join(Note note, AsyncValidationEngine<?>... fields) {
+        return AsyncValidationEngine.validateAll(note, fields).toCompletableFuture().join();
+    }
+
+    /**
+     * @return true if blocking rules run on virtual threads
+     */
+    public static boolean isVirtual() {
+        return BlockingExecutors.isVirtual();
+    }
+
+    /**
+     * Interrupts the blocking rules of this scope that are still running.
+     */
+    @Override
+    public void close() {
+        synchronized (tasks) {
+            closed = true;
+            for (Future<?> task : tasks) {
+                task.cancel(true);
+            }
+            tasks.clear();
+        }
+    }
+}
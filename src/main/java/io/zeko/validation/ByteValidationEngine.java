@@ -0,0 +1,38 @@
+package io.zeko.validation;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Validation engine for UTF-8 encoded bytes, e.g. a field sliced out of an HTTP body before any String decoding.
+ * <p>
+ * ASCII content is validated in place through an {@link AsciiCharSequence} view, so the character class, numeric,
+ * length and IP/hostname rules scan the raw bytes. Content holding non-ASCII bytes is decoded once as UTF-8 and
+ * validated the same way as a {@link String}.
+ */
+public class ByteValidationEngine extends ValidationEngineCharSequence {
+
+    public ByteValidationEngine(byte[] value, int offset, int length) {
+        super(AsciiCharSequence.of(value, offset, length));
+    }
+
+    public ByteValidationEngine(String fieldName, byte[] value, int offset, int length, Note note) {
+        super(fieldName, AsciiCharSequence.of(value, offset, length), note);
+    }
+
+    public ByteValidationEngine(byte[] value, int offset, int length, List<String> note) {
+        super(AsciiCharSequence.of(value, offset, length), note);
+    }
+
+    public ByteValidationEngine(ByteBuffer value) {
+        super(AsciiCharSequence.of(value));
+    }
+
+    public ByteValidationEngine(String fieldName, ByteBuffer value, Note note) {
+        super(fieldName, AsciiCharSequence.of(value), note);
+    }
+
+    public ByteValidationEngine(ByteBuffer value, List<String> note) {
+        super(AsciiCharSequence.of(value), note);
+    }
+}
@@ -0,0 +1,84 @@
+package io.zeko.validation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Memoizes an asynchronous rule for {@link AsyncValidationEngine#mustAsync}, e.g. a remote existence check.
+ * <p>
+ * A lookup still in flight is shared by concurrent validations of the same value. Outcomes are kept for the TTL of
+ * valid or invalid results, lookups that complete exceptionally are not cached.
+ *
+ * @param <T> type of the value being validated
+ */
+public class CachedAsyncRule<T> implements Function<T, CompletionStage<Boolean>> {
+
+    private final Function<T, ? extends CompletionStage<Boolean>> rule;
+    private final RuleResultCache<T, CompletableFuture<Boolean>> cache;
+
+    /**
+     * @param rule              rule being memoized
+     * @param maxSize           maximum number of values remembered
+     * @param ttlMillis         how long a valid outcome is remembered
+     * @param negativeTtlMillis how long an invalid outcome is remembered, 0 to always recompute invalid values
+     */
+    public CachedAsyncRule(Function<T, ? extends CompletionStage<Boolean>> rule, int maxSize, long ttlMillis, long negativeTtlMillis) {
+        this.rule = rule;
+        this.cache = new RuleResultCache<>(maxSize, ttlMillis, negativeTtlMillis);
+    }
+
+    public CachedAsyncRule(Function<T, ? extends CompletionStage<Boolean>> rule, int maxSize, long ttlMillis) {
+        this(rule, maxSize, ttlMillis, ttlMillis);
+    }
+
+    @Override
+    public CompletionStage<Boolean> apply(T value) {
+        CompletableFuture<Boolean> cached;
+        CompletableFuture<Boolean> result;
+
+        synchronized (cache) {
+            cached = cache.get(value);
+            if (cached == null) {
+                result = new CompletableFuture<>();
+                cache.put(value, result, true);
+            } else {
+                result = null;
+            }
+        }
+        if (cached != null) {
+            return cached.copy();
+        }
+
+        CompletionStage<Boolean> stage;
+        try {
+            stage = rule.apply(value);
+        } catch (RuntimeException err) {
+            stage = CompletableFuture.failedFuture(err);
+        }
+
+        stage.whenComplete((valid, err) -> {
+            if (err != null) {
+                cache.remove(value, result);
+                result.completeExceptionally(err);
+            } else {
+                boolean ok = Boolean.TRUE.equals(valid);
+                cache.put(value, result, ok);
+                result.complete(ok);
+            }
+        });
+        return result.copy();
+    }
+
+    public void invalidate(T value) {
+        cache.remove(value);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
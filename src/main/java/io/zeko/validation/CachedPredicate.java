@@ -0,0 +1,55 @@
+package io.zeko.validation;
+
+import java.util.function.Predicate;
+
+/**
+ * Memoizes a rule whose outcome depends only on the value, e.g. a blacklist lookup or a complex regex. Abusive
+ * clients resubmitting the same payload get the cached outcome instead of a recomputed one.
+ * <p>
+ * valid(name, "name", note).must(new CachedPredicate&lt;&gt;(s -&gt; !blacklist.contains(s), 10_000, 60_000, 10_000), "blocked")
+ *
+ * @param <T> type of the value being validated
+ */
+public class CachedPredicate<T> implements Predicate<T> {
+
+    private final Predicate<T> rule;
+    private final RuleResultCache<T, Boolean> cache;
+
+    /**
+     * @param rule              rule being memoized
+     * @param maxSize           maximum number of values remembered
+     * @param ttlMillis         how long a valid outcome is remembered
+     * @param negativeTtlMillis how long an invalid outcome is remembered, 0 to always recompute invalid values
+     */
+    public CachedPredicate(Predicate<T> rule, int maxSize, long ttlMillis, long negativeTtlMillis) {
+        this.rule = rule;
+        this.cache = new RuleResultCache<>(maxSize, ttlMillis, negativeTtlMillis);
+    }
+
+    public CachedPredicate(Predicate<T> rule, int maxSize, long ttlMillis) {
+        this(rule, maxSize, ttlMillis, ttlMillis);
+    }
+
+    @Override
+    public boolean test(T value) {
+        Boolean cached = cache.get(value);
+        if (cached != null) {
+            return cached;
+        }
+        boolean valid = rule.test(value);
+        cache.put(value, valid, valid);
+        return valid;
+    }
+
+    public void invalidate(T value) {
+        cache.remove(value);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,107 @@
+package io.zeko.validation;
+
+/**
+ * Payment card number validator: issuer prefix table, length per brand and Luhn checksum in one pass, without
+ * allocating.
+ * <p>
+ * Digits may be grouped by single spaces or hyphens, as in 4111 1111 1111 1111. The brand is looked up from the first
+ * six digits (the issuer identification number) in a table of ranges, and the number of digits must be one of the
+ * lengths of that brand.
+ * <p>
+ * CardNumber.brandOf("4111-1111-1111-1111") == CardNumber.Brand.VISA
+ */
+public final class CardNumber {
+
+    public enum Brand {
+        VISA, MASTERCARD, AMERICAN_EXPRESS, DINERS_CLUB, DISCOVER, JCB
+    }
+
+    private static final int MAX_DIGITS = 19;
+    private static final int IIN_DIGITS = 6;
+
+    private static final int LENGTH_13_16_19 = 1 << 13 | 1 << 16 | 1 << 19;
+    private static final int LENGTH_14_TO_19 = 0b111111 << 14;
+    private static final int LENGTH_15 = 1 << 15;
+    private static final int LENGTH_16 = 1 << 16;
+    private static final int LENGTH_16_TO_19 = 0b1111 << 16;
+
+    // IIN ranges on the first six digits, sorted by start
+    private static final int[] IIN_FROM = {
+            180000, 213100, 222100, 300000, 340000, 352800, 360000, 370000, 380000, 400000, 510000, 601100, 622126,
+            644000
+    };
+    private static final int[] IIN_TO = {
+            180099, 213199, 272099, 305999, 349999, 358999, 369999, 379999, 399999, 499999, 559999, 601199, 622925,
+            659999
+    };
+    private static final Brand[] IIN_BRAND = {
+            Brand.JCB, Brand.JCB, Brand.MASTERCARD, Brand.DINERS_CLUB, Brand.AMERICAN_EXPRESS, Brand.JCB,
+            Brand.DINERS_CLUB, Brand.AMERICAN_EXPRESS, Brand.DINERS_CLUB, Brand.VISA, Brand.MASTERCARD, Brand.DISCOVER,
+            Brand.DISCOVER, Brand.DISCOVER
+    };
+    private static final int[] IIN_LENGTHS = {
+            LENGTH_15, LENGTH_15, LENGTH_16, LENGTH_14_TO_19, LENGTH_15, LENGTH_16_TO_19,
+            LENGTH_14_TO_19, LENGTH_15, LENGTH_14_TO_19, LENGTH_13_16_19, LENGTH_16, LENGTH_16_TO_19,
+            LENGTH_16_TO_19, LENGTH_16_TO_19
+    };
+
+    private CardNumber() {
+    }
+
+    public static boolean isValid(CharSequence s) {
+        return brandOf(s) != null;
+    }
+
+    public static boolean isValid(CharSequence s, Brand brand) {
+        return brandOf(s) == brand;
+    }
+
+    /**
+     * @return brand of a valid card number, null when the number is not valid
+     */
+    public static Brand brandOf(CharSequence s) {
+        final int length = s.length();
+        int digits = 0;
+        int iin = 0;
+        // Luhn sums for an even and for an odd number of digits, the doubled positions depend on which it is
+        int evenSum = 0;
+        int oddSum = 0;
+        boolean separator = false;
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c == ' ' || c == '-') {
+                if (digits == 0 || separator) {
+                    return null;
+                }
+                separator = true;
+                continue;
+            }
+            if (c < '0' || c > '9' || ++digits > MAX_DIGITS) {
+                return null;
+            }
+            separator = false;
+            final int digit = c - '0';
+            final int doubled = digit < 5 ? digit * 2 : digit * 2 - 9;
+            if ((digits & 1) == 1) {
+                evenSum += doubled;
+                oddSum += digit;
+            } else {
+                evenSum += digit;
+                oddSum += doubled;
+            }
+            if (digits <= IIN_DIGITS) {
+                iin = iin * 10 + digit;
+            }
+        }
+        if (separator || digits < IIN_DIGITS || ((digits & 1) == 0 ? evenSum : oddSum) % 10 != 0) {
+            return null;
+        }
+
+        for (int i = 0; i < IIN_FROM.length && IIN_FROM[i] <= iin; i++) {
+            if (iin <= IIN_TO[i]) {
+                return (IIN_LENGTHS[i] & 1 << digits) != 0 ? IIN_BRAND[i] : null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,170 @@
+package io.zeko.validation;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of code points held as sorted, non-overlapping, non-adjacent [lo, hi] pairs.
+ */
+final class CharRanges {
+    static final int MAX = Character.MAX_CODE_POINT;
+
+    static final CharRanges EMPTY = new CharRanges(new int[0]);
+    static final CharRanges ALL = of(0, MAX);
+    static final CharRanges DIGIT = of('0', '9');
+    static final CharRanges WORD = of('a', 'z').union(of('A', 'Z')).union(DIGIT).union(single('_'));
+    static final CharRanges SPACE = of('\t', '\r').union(single(' '));
+    static final CharRanges LINE_TERMINATOR = single('\n').union(single('\r')).union(single(0x85)).union(of(0x2028, 0x2029));
+    static final CharRanges HORIZONTAL_SPACE = single(' ').union(single('\t')).union(single(0xA0)).union(single(0x1680))
+            .union(single(0x180E)).union(of(0x2000, 0x200A)).union(single(0x202F)).union(single(0x205F)).union(single(0x3000));
+    static final CharRanges VERTICAL_SPACE = of('\n', '\r').union(single(0x85)).union(of(0x2028, 0x2029));
+
+    private final int[] ranges;
+
+    private CharRanges(int[] ranges) {
+        this.ranges = ranges;
+    }
+
+    static CharRanges of(int lo, int hi) {
+        return lo > hi ? EMPTY : new CharRanges(new int[]{lo, hi});
+    }
+
+    static CharRanges single(int c) {
+        return of(c, c);
+    }
+
+    int size() {
+        return ranges.length / 2;
+    }
+
+    int lo(int i) {
+        return ranges[i * 2];
+    }
+
+    int hi(int i) {
+        return ranges[i * 2 + 1];
+    }
+
+    boolean isEmpty() {
+        return ranges.length == 0;
+    }
+
+    boolean contains(int c) {
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (c < lo(mid)) {
+                high = mid - 1;
+            } else if (c > hi(mid)) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    CharRanges union(CharRanges other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        final int[] all = new int[ranges.length + other.ranges.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < ranges.length || j < other.ranges.length) {
+            if (j >= other.ranges.length || (i < ranges.length && ranges[i] <= other.ranges[j])) {
+                all[k++] = ranges[i++];
+                all[k++] = ranges[i++];
+            } else {
+                all[k++] = other.ranges[j++];
+                all[k++] = other.ranges[j++];
+            }
+        }
+        return new CharRanges(merge(all, k));
+    }
+
+    private static int[] merge(int[] sorted, int length) {
+        final int[] merged = new int[length];
+        int n = 0;
+        for (int i = 0; i < length; i += 2) {
+            if (n > 0 && sorted[i] <= merged[n - 1] + 1) {
+                merged[n - 1] = Math.max(merged[n - 1], sorted[i + 1]);
+            } else {
+                merged[n++] = sorted[i];
+                merged[n++] = sorted[i + 1];
+            }
+        }
+        return Arrays.copyOf(merged, n);
+    }
+
+    CharRanges negate() {
+        final int[] result = new int[ranges.length + 2];
+        int n = 0;
+        int next = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > next) {
+                result[n++] = next;
+                result[n++] = ranges[i] - 1;
+            }
+            next = ranges[i + 1] + 1;
+        }
+        if (next <= MAX) {
+            result[n++] = next;
+            result[n++] = MAX;
+        }
+        return new CharRanges(Arrays.copyOf(result, n));
+    }
+
+    CharRanges intersect(CharRanges other) {
+        return negate().union(other.negate()).negate();
+    }
+
+    boolean intersects(CharRanges other) {
+        int i = 0;
+        int j = 0;
+        while (i < size() && j < other.size()) {
+            if (hi(i) < other.lo(j)) {
+                i++;
+            } else if (other.hi(j) < lo(i)) {
+                j++;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean containsAll(CharRanges other) {
+        return other.intersect(negate()).isEmpty();
+    }
+
+    /**
+     * @return this set plus the other case of its ASCII letters
+     */
+    CharRanges foldAsciiCase() {
+        CharRanges folded = this;
+        final CharRanges upper = intersect(of('A', 'Z'));
+        final CharRanges lower = intersect(of('a', 'z'));
+        for (int i = 0; i < upper.size(); i++) {
+            folded = folded.union(of(upper.lo(i) + 32, upper.hi(i) + 32));
+        }
+        for (int i = 0; i < lower.size(); i++) {
+            folded = folded.union(of(lower.lo(i) - 32, lower.hi(i) - 32));
+        }
+        return folded;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CharRanges && Arrays.equals(ranges, ((CharRanges) o).ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ranges);
+    }
+}
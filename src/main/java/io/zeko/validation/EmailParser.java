@@ -0,0 +1,236 @@
+package io.zeko.validation;
+
+/**
+ * Single-pass email address validator, a state machine over the chars of the address that does not allocate.
+ * <p>
+ * The strictness decides what is accepted:
+ * <ul>
+ * <li>LEGACY: the rule set used by {@link RuleSet#email} so far. Dot-atom local part; lowercase domain whose labels
+ * have 2 to 64 chars or are a single letter, with a TLD of 2 to 6 letters; or a bare IPv4 domain with an optional
+ * port. The address may not contain "--" or "-."</li>
+ * <li>STANDARD: RFC 5321 mailbox in dot-atom form. Local part up to 64 chars, domain labels of 1 to 63 letters, digits
+ * or hyphens that do not start or end with a hyphen, an alphabetic or punycode TLD, at most 254 chars in all; or an
+ * IPv4 address literal such as [192.168.0.1]</li>
+ * <li>STRICT: STANDARD without address literals, and the local part limited to letters, digits and . _ % + -</li>
+ * </ul>
+ * EmailParser.isValid("john.doe@example.com", EmailParser.Strictness.STANDARD)
+ */
+public final class EmailParser {
+
+    public enum Strictness {
+        LEGACY, STANDARD, STRICT;
+
+        /**
+         * @param name strictness name in any case, as used in rule strings: "email;strict"
+         * @return strictness
+         */
+        public static Strictness of(String name) {
+            return valueOf(name.trim().toUpperCase());
+        }
+    }
+
+    static final int MAX_LOCAL = 64;
+    static final int MAX_LABEL = 63;
+    static final int MAX_LENGTH = 254;
+
+    private static final int LEGACY_MAX_LABEL = 64;
+    private static final int LEGACY_MAX_TLD = 6;
+    private static final int LEGACY_MAX_PORT = 5;
+
+    private EmailParser() {
+    }
+
+    public static boolean isValid(CharSequence s) {
+        return isValid(s, Strictness.LEGACY);
+    }
+
+    public static boolean isValid(CharSequence s, Strictness strictness) {
+        final boolean legacy = strictness == Strictness.LEGACY;
+        final int length = s.length();
+        if (!legacy && length > MAX_LENGTH) {
+            return false;
+        }
+
+        // local part: atoms separated by single dots
+        int i = 0;
+        int atom = 0;
+        char prev = 0;
+        for (; i < length; i++) {
+            final char c = s.charAt(i);
+            if (legacy && prev == '-' && (c == '-' || c == '.')) {
+                return false;
+            }
+            prev = c;
+            if (c == '@') {
+                break;
+            }
+            if (c == '.') {
+                if (atom == 0) {
+                    return false;
+                }
+                atom = 0;
+            } else if (isAtext(c, strictness)) {
+                atom++;
+            } else {
+                return false;
+            }
+        }
+        if (i == length || atom == 0 || (!legacy && i > MAX_LOCAL)) {
+            return false;
+        }
+        i++;
+
+        if (i < length && s.charAt(i) == '[') {
+            return strictness == Strictness.STANDARD && isAddressLiteral(s, i + 1, length);
+        }
+
+        // domain: labels separated by single dots, the last one is the TLD unless all labels are digits
+        int labels = 0;
+        int labelLength = 0;
+        boolean labelDigits = true;
+        boolean labelLetters = true;
+        boolean labelValid = true;
+        boolean digitLabels = true;
+        char first = 0;
+        char last = 0;
+        for (; i <= length; i++) {
+            final char c = i < length ? s.charAt(i) : '.';
+            if (legacy && i < length && prev == '-' && (c == '-' || c == '.')) {
+                return false;
+            }
+            prev = c;
+
+            if (c == '.' || c == ':') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                labels++;
+                final boolean end = i == length || c == ':';
+                digitLabels &= labelDigits && labelLength <= 3;
+                if (end) {
+                    if (legacy && digitLabels && labels == 4) {
+                        return c == '.' || isPort(s, i + 1, length);
+                    }
+                    if (c == ':' || labels < 2 || !labelValid) {
+                        return false;
+                    }
+                    return legacy
+                            ? labelLetters && labelLength >= 2 && labelLength <= LEGACY_MAX_TLD
+                            : isTld(s, i - labelLength, labelLength, labelLetters, last);
+                }
+                if (legacy) {
+                    labelValid &= labelLength == 1 ? isLowerLetter(first) : labelLength <= LEGACY_MAX_LABEL && last != '-';
+                } else {
+                    labelValid &= labelLength <= MAX_LABEL && last != '-';
+                }
+                if (!labelValid && !(legacy && digitLabels)) {
+                    return false;
+                }
+                labelLength = 0;
+                labelDigits = true;
+                labelLetters = true;
+                continue;
+            }
+
+            final boolean digit = c >= '0' && c <= '9';
+            final boolean letter = legacy ? isLowerLetter(c) : isLowerLetter(c) || (c >= 'A' && c <= 'Z');
+            if (!digit && !letter && c != '-') {
+                return false;
+            }
+            if (labelLength == 0) {
+                first = c;
+                if (c == '-') {
+                    return false;
+                }
+            }
+            labelDigits &= digit;
+            labelLetters &= letter;
+            labelLength++;
+            last = c;
+        }
+        return false;
+    }
+
+    private static boolean isAtext(char c, Strictness strictness) {
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+            return true;
+        }
+        if (strictness == Strictness.STRICT) {
+            return c == '_' || c == '%' || c == '+' || c == '-';
+        }
+        switch (c) {
+            case '!': case '#': case '$': case '%': case '&': case '\'': case '*': case '+': case '-': case '/':
+            case '=': case '?': case '^': case '_': case '`': case '{': case '|': case '}': case '~':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isLowerLetter(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    /**
+     * TLD of 2 to 63 letters, or a punycode TLD "xn--" followed by letters, digits and hyphens
+     */
+    private static boolean isTld(CharSequence s, int start, int length, boolean letters, char last) {
+        if (length < 2 || length > MAX_LABEL || last == '-') {
+            return false;
+        }
+        if (letters) {
+            return true;
+        }
+        return length > 4
+                && Character.toLowerCase(s.charAt(start)) == 'x' && Character.toLowerCase(s.charAt(start + 1)) == 'n'
+                && s.charAt(start + 2) == '-' && s.charAt(start + 3) == '-';
+    }
+
+    /**
+     * 1 to 5 digits up to the end
+     */
+    private static boolean isPort(CharSequence s, int start, int length) {
+        final int digits = length - start;
+        if (digits < 1 || digits > LEGACY_MAX_PORT) {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * IPv4 address followed by the closing bracket at the end
+     */
+    private static boolean isAddressLiteral(CharSequence s, int start, int length) {
+        int octets = 0;
+        int value = 0;
+        int digits = 0;
+        for (int i = start; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                if (++digits > 3 || value > 255) {
+                    return false;
+                }
+            } else if (c == '.' || c == ']') {
+                if (digits == 0) {
+                    return false;
+                }
+                octets++;
+                if (c == ']') {
+                    return octets == 4 && i == length - 1;
+                }
+                value = 0;
+                digits = 0;
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+}
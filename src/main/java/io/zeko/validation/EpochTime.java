@@ -0,0 +1,134 @@
+package io.zeko.validation;
+
+import java.util.TimeZone;
+
+/**
+ * Epoch timestamps and relative time windows on primitives, without Calendar or Date.
+ * <p>
+ * A timestamp is read in one of three formats: "epochSeconds" and "epochMillis" for a decimal integer with an
+ * optional minus sign, or "iso" for an ISO-8601 date-time parsed by {@link IsoDateTime}, local ones in the default
+ * time zone. A window is a positive count and a unit: ms, s, m, h, d or w, as in 7d or 90m.
+ * <p>
+ * valid(input, "createdAt", note).required().withinPast("7d", EpochTime.EPOCH_SECONDS, null);
+ */
+public final class EpochTime {
+    public static final String EPOCH_SECONDS = "epochSeconds";
+    public static final String EPOCH_MILLIS = "epochMillis";
+
+    /** returned by {@link #toEpochMilli} when the value is not a timestamp of the format */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final long MAX_SECONDS = Long.MAX_VALUE / 1000;
+
+    private EpochTime() {
+    }
+
+    public static boolean isEpochSeconds(CharSequence s) {
+        final long seconds = parseLong(s);
+        return seconds != INVALID && seconds >= -MAX_SECONDS && seconds <= MAX_SECONDS;
+    }
+
+    public static boolean isEpochMillis(CharSequence s) {
+        return parseLong(s) != INVALID;
+    }
+
+    /**
+     * @param format {@link #EPOCH_SECONDS}, {@link #EPOCH_MILLIS} or {@link IsoDateTime#FORMAT}
+     * @return epoch milliseconds, {@link #INVALID} when s is not a timestamp of the format
+     * @throws IllegalArgumentException when the format is not one of these
+     */
+    public static long toEpochMilli(CharSequence s, String format) {
+        if (EPOCH_SECONDS.equals(format)) {
+            return isEpochSeconds(s) ? parseLong(s) * 1000 : INVALID;
+        }
+        if (EPOCH_MILLIS.equals(format)) {
+            return parseLong(s);
+        }
+        if (IsoDateTime.isIsoFormat(format)) {
+            return IsoDateTime.toEpochMilli(s, TimeZone.getDefault());
+        }
+        throw new IllegalArgumentException("Invalid timestamp format: " + format);
+    }
+
+    /**
+     * @param window count and unit such as 7d, 1h or 500ms
+     * @return window length in milliseconds
+     * @throws IllegalArgumentException when the window is not valid
+     */
+    public static long parseWindow(String window) {
+        int i = 0;
+        long count = 0;
+        while (i < window.length() && window.charAt(i) >= '0' && window.charAt(i) <= '9' && count <= Integer.MAX_VALUE) {
+            count = count * 10 + (window.charAt(i) - '0');
+            i++;
+        }
+        final long unit = unitMillis(window.substring(i));
+        if (i == 0 || count == 0 || count > Integer.MAX_VALUE || unit == 0) {
+            throw new IllegalArgumentException("Invalid time window: " + window);
+        }
+        return count * unit;
+    }
+
+    /**
+     * @return true when the timestamp is between now minus the window and now
+     */
+    public static boolean withinPast(long epochMilli, long windowMillis) {
+        final long now = System.currentTimeMillis();
+        // now minus the timestamp overflows for timestamps far in the past, now minus the window does not
+        return epochMilli != INVALID && epochMilli <= now && epochMilli >= now - windowMillis;
+    }
+
+    /**
+     * @param windowMillis window length, up to the longest window of {@link #parseWindow} so that now plus it fits
+     * @return true when the timestamp is between now and now plus the window
+     */
+    public static boolean withinNext(long epochMilli, long windowMillis) {
+        final long now = System.currentTimeMillis();
+        return epochMilli != INVALID && epochMilli >= now && epochMilli <= now + windowMillis;
+    }
+
+    private static long unitMillis(String unit) {
+        switch (unit) {
+            case "ms":
+                return 1;
+            case "s":
+                return 1000;
+            case "m":
+                return 60_000;
+            case "h":
+                return 3_600_000;
+            case "d":
+                return 86_400_000;
+            case "w":
+                return 604_800_000;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * @return value of the decimal integer, {@link #INVALID} when s is not one or does not fit in a long
+     */
+    private static long parseLong(CharSequence s) {
+        final int length = s.length();
+        final boolean negative = length > 0 && s.charAt(0) == '-';
+        int i = negative ? 1 : 0;
+        if (i == length) {
+            return INVALID;
+        }
+        long value = 0;
+        for (; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+            final int digit = c - '0';
+            // accumulate as a negative number, which holds Long.MIN_VALUE + 1 to Long.MAX_VALUE negated
+            if (value < (Long.MIN_VALUE + 1 + digit) / 10) {
+                return INVALID;
+            }
+            value = value * 10 - digit;
+        }
+        return negative ? value : -value;
+    }
+}
@@ -2,6 +2,8 @@ package io.zeko.validation;
 
 import io.zeko.validation.excpetion.ValidationErrorException;
 
+import java.nio.ByteBuffer;
+
 /**
  * Class for starting a validation rule in Fail-Fast mode:
  * <p>
@@ -20,6 +22,41 @@ public class FailFastValidator {
         return new PreConditionString(validationEngineString);
     }
 
+    /**
+     * Starts a type {@link CharSequence} validation rule.
+     *
+     * @param value value being validated
+     * @return {@link PreConditionCharSequence} for defining the first predicate
+     */
+    public static PreConditionCharSequence valid(CharSequence value) {
+        ValidationEngineCharSequence validationEngineCharSequence = new ValidationEngineCharSequence(value);
+        return new PreConditionCharSequence(validationEngineCharSequence);
+    }
+
+    /**
+     * Starts a validation rule over a range of UTF-8 encoded bytes.
+     *
+     * @param value  bytes holding the value being validated
+     * @param offset index of the first byte of the value
+     * @param length number of bytes of the value
+     * @return {@link PreConditionCharSequence} for defining the first predicate
+     */
+    public static PreConditionCharSequence valid(byte[] value, int offset, int length) {
+        ByteValidationEngine byteValidationEngine = new ByteValidationEngine(value, offset, length);
+        return new PreConditionCharSequence(byteValidationEngine);
+    }
+
+    /**
+     * Starts a validation rule over the remaining UTF-8 encoded bytes of a buffer.
+     *
+     * @param value buffer holding the value being validated
+     * @return {@link PreConditionCharSequence} for defining the first predicate
+     */
+    public static PreConditionCharSequence valid(ByteBuffer value) {
+        ByteValidationEngine byteValidationEngine = new ByteValidationEngine(value);
+        return new PreConditionCharSequence(byteValidationEngine);
+    }
+
     /**
      * Starts a type {@link Integer} validation rule.
      *
@@ -42,4 +79,14 @@ public class FailFastValidator {
         return new PreCondition<>(validationEngine);
     }
 
+    /**
+     * Starts a type {@link T} validation rule with asynchronous rules.
+     *
+     * @param value value being validated
+     * @return {@link AsyncValidationEngine} for defining the predicates
+     */
+    public static <T> AsyncValidationEngine<T> validAsync(T value) {
+        return new AsyncValidationEngine<>(value);
+    }
+
 }
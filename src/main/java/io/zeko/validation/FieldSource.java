@@ -0,0 +1,125 @@
+package io.zeko.validation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Source of raw input values looked up by field ID. Values are fetched only when a field is validated, so a request
+ * model does not need to be converted into a {@link Map} before validation.
+ * <p>
+ * Adapters are usually method references of the framework request model:
+ * <p>
+ * FieldSource.of(multiMap::get, multiMap::getAll)                                    -- Vert.x MultiMap<br>
+ * FieldSource.of(request::getParameter, n -&gt; asList(request.getParameterValues(n)))  -- Servlet parameters<br>
+ * FieldSource.of(n -&gt; json.getString(n))                                             -- JSON object
+ */
+@FunctionalInterface
+public interface FieldSource {
+
+    /**
+     * @param fieldName field ID
+     * @return the first value of the field, null if absent
+     */
+    String get(String fieldName);
+
+    /**
+     * @param fieldName field ID
+     * @return all values of the field, null if absent
+     */
+    default List<String> getAll(String fieldName) {
+        String value = get(fieldName);
+        return value == null ? null : Collections.singletonList(value);
+    }
+
+    /**
+     * Sources backed by buffers may override this to return a view over the value without copying it.
+     *
+     * @param fieldName field ID
+     * @return the first value of the field, null if absent
+     */
+    default CharSequence getChars(String fieldName) {
+        return get(fieldName);
+    }
+
+    static FieldSource of(Function<String, String> getter) {
+        return getter::apply;
+    }
+
+    static FieldSource of(Function<String, String> getter, Function<String, List<String>> multiGetter) {
+        return new FieldSource() {
+            @Override
+            public String get(String fieldName) {
+                return getter.apply(fieldName);
+            }
+
+            @Override
+            public List<String> getAll(String fieldName) {
+                return multiGetter.apply(fieldName);
+            }
+        };
+    }
+
+    static FieldSource of(Map<String, String> map) {
+        return map::get;
+    }
+
+    static FieldSource ofMulti(Map<String, List<String>> map) {
+        return new FieldSource() {
+            @Override
+            public String get(String fieldName) {
+                List<String> values = map.get(fieldName);
+                return values == null || values.isEmpty() ? null : values.get(0);
+            }
+
+            @Override
+            public List<String> getAll(String fieldName) {
+                return map.get(fieldName);
+            }
+        };
+    }
+
+    /**
+     * Source over parallel arrays of field IDs and values, e.g. columns of a CSV row. A repeated field ID yields
+     * multiple values.
+     *
+     * @param fieldNames field IDs
+     * @param values     values at the same index as their field ID
+     * @return field source
+     */
+    static FieldSource of(String[] fieldNames, String[] values) {
+        return new FieldSource() {
+            @Override
+            public String get(String fieldName) {
+                for (int i = 0; i < fieldNames.length; i++) {
+                    if (fieldNames[i].equals(fieldName)) {
+                        return values[i];
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public List<String> getAll(String fieldName) {
+                int count = 0;
+                for (String name : fieldNames) {
+                    if (name.equals(fieldName)) {
+                        count++;
+                    }
+                }
+                if (count < 2) {
+                    return FieldSource.super.getAll(fieldName);
+                }
+                String[] all = new String[count];
+                for (int i = 0, j = 0; i < fieldNames.length; i++) {
+                    if (fieldNames[i].equals(fieldName)) {
+                        all[j++] = values[i];
+                    }
+                }
+                return Arrays.asList(all);
+            }
+        };
+    }
+}
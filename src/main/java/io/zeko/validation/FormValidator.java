@@ -0,0 +1,188 @@
+package io.zeko.validation;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validates an application/x-www-form-urlencoded body without decoding it into a {@link Map} first.
+ * <p>
+ * The body is scanned once. Keys are compared against the fields that have rules directly on the raw bytes, so
+ * unknown keys are skipped without allocating. Only the values of fields with rules are percent-decoded, into a
+ * buffer that is reused across fields and calls. Fields with rules that are absent from the body are validated as
+ * null, the same as a missing key in {@link Validator#check}. When a key repeats, its first value is validated.
+ * <p>
+ * Malformed percent escapes are kept literally. Instances hold the reusable buffer, so they are not thread-safe.
+ * <p>
+ * rules example: fieldRules.put("email", Validator.parseRules("required, email"))
+ */
+public class FormValidator {
+    private Notification note;
+    private String[] fieldNames;
+    private byte[][] fieldKeys;
+    private Map<String, List<?>>[] fieldRules;
+    private byte[] buffer = new byte[256];
+    private int size;
+
+    public FormValidator(Map<String, ? extends Map<String, ? extends List<?>>> rules, Notification note) {
+        this.setRules(rules);
+        this.setNote(note);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setRules(Map<String, ? extends Map<String, ? extends List<?>>> rules) {
+        final int count = rules.size();
+        this.fieldNames = new String[count];
+        this.fieldKeys = new byte[count][];
+        this.fieldRules = new Map[count];
+
+        int i = 0;
+        for (Map.Entry<String, ? extends Map<String, ? extends List<?>>> entry : rules.entrySet()) {
+            fieldNames[i] = entry.getKey();
+            fieldKeys[i] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            fieldRules[i] = new LinkedHashMap<>(entry.getValue());
+            i++;
+        }
+    }
+
+    public void setNote(Notification note) {
+        this.note = note;
+    }
+
+    public Notification checkAll(byte[] body, int offset, int length) {
+        return scan(body, offset, length, false);
+    }
+
+    public Notification checkAll(byte[] body) {
+        return checkAll(body, 0, body.length);
+    }
+
+    public Notification checkAll(ByteBuffer body) {
+        return checkAll(toArray(body), body.hasArray() ? body.arrayOffset() + body.position() : 0, body.remaining());
+    }
+
+    public Notification checkAll(String body) {
+        return checkAll(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Notification check(byte[] body, int offset, int length) {
+        return scan(body, offset, length, true);
+    }
+
+    public Notification check(byte[] body) {
+        return check(body, 0, body.length);
+    }
+
+    public Notification check(ByteBuffer body) {
+        return check(toArray(body), body.hasArray() ? body.arrayOffset() + body.position() : 0, body.remaining());
+    }
+
+    public Notification check(String body) {
+        return check(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] toArray(ByteBuffer body) {
+        if (body.hasArray()) {
+            return body.array();
+        }
+        byte[] copy = new byte[body.remaining()];
+        body.duplicate().get(copy);
+        return copy;
+    }
+
+    private Notification scan(byte[] body, int offset, int length, boolean failOnFirst) {
+        final boolean[] seen = new boolean[fieldNames.length];
+        final int end = offset + length;
+        int pos = offset;
+
+        while (pos < end) {
+            int keyEnd = pos;
+            boolean keyEncoded = false;
+            while (keyEnd < end && body[keyEnd] != '=' && body[keyEnd] != '&') {
+                if (body[keyEnd] == '%' || body[keyEnd] == '+') {
+                    keyEncoded = true;
+                }
+                keyEnd++;
+            }
+
+            int valueStart = keyEnd < end && body[keyEnd] == '=' ? keyEnd + 1 : keyEnd;
+            int valueEnd = valueStart;
+            while (valueEnd < end && body[valueEnd] != '&') {
+                valueEnd++;
+            }
+
+            int field;
+            if (keyEncoded) {
+                decode(body, pos, keyEnd);
+                field = findField(buffer, 0, size);
+            } else {
+                field = findField(body, pos, keyEnd);
+            }
+
+            if (field >= 0 && !seen[field]) {
+                seen[field] = true;
+                decode(body, valueStart, valueEnd);
+                validate(field, new String(buffer, 0, size, StandardCharsets.UTF_8), failOnFirst);
+            }
+            pos = valueEnd + 1;
+        }
+
+        for (int i = 0; i < seen.length; i++) {
+            if (!seen[i]) {
+                validate(i, null, failOnFirst);
+            }
+        }
+        return note;
+    }
+
+    private void validate(int field, String value, boolean failOnFirst) {
+        PreConditionString preCond = failOnFirst
+                ? NoteFirstValidator.valid(value, fieldNames[field], note)
+                : NoteAllValidator.valid(value, fieldNames[field], note);
+        Validator.invokeCheck(fieldRules[field], preCond);
+    }
+
+    private int findField(byte[] bytes, int start, int end) {
+        final int len = end - start;
+        for (int i = 0; i < fieldKeys.length; i++) {
+            final byte[] key = fieldKeys[i];
+            if (key.length != len) {
+                continue;
+            }
+            int j = 0;
+            while (j < len && key[j] == bytes[start + j]) {
+                j++;
+            }
+            if (j == len) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Percent-decodes the range into the reusable buffer, converting '+' to space.
+     */
+    private void decode(byte[] bytes, int start, int end) {
+        if (buffer.length < end - start) {
+            buffer = new byte[Math.max(end - start, buffer.length * 2)];
+        }
+        size = 0;
+        for (int i = start; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '+') {
+                b = ' ';
+            } else if (b == '%' && i + 2 < end) {
+                int hi = Character.digit(bytes[i + 1], 16);
+                int lo = Character.digit(bytes[i + 2], 16);
+                if (hi >= 0 && lo >= 0) {
+                    b = (byte) ((hi << 4) + lo);
+                    i += 2;
+                }
+            }
+            buffer[size++] = b;
+        }
+    }
+}
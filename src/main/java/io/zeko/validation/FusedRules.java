@@ -0,0 +1,301 @@
+package io.zeko.validation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Character-level rules of one field evaluated in a single pass over the value.
+ * <p>
+ * Built by plan compilation from the parsed rules of a field. The value is scanned once: every char is looked up in
+ * {@link AsciiClass}, which answers the class rules such as alphaNum, digit or hasLetter and, for ASCII values,
+ * allLowerCase and allUpperCase, while the automata of colorHex and of the regexLinear rules that {@link LinearRegex}
+ * supports are stepped together over the code points. Plain regex rules are not fused and keep their
+ * {@link java.util.regex.Pattern} semantics. The length and affix rules need no loop. Each rule is still reported on
+ * its own, with the same rule name and message as when it is invoked by {@link Validator#invokeCheck}.
+ * Rules that cannot be fused are left in {@link #getRemaining()}.
+ */
+final class FusedRules {
+    private static final int MAX_FUSED = 32;
+
+    private static final int AUTOMATON = 0;
+    private static final int LOWER_CASE = 1;
+    private static final int UPPER_CASE = 2;
+    private static final int START_WITH = 3;
+    private static final int END_WITH = 4;
+    private static final int MIN_LENGTH = 5;
+    private static final int MAX_LENGTH = 6;
+    private static final int LENGTH = 7;
+    private static final int ONLY_CLASSES = 8;
+    private static final int HAS_CLASSES = 9;
+
+    private final int count;
+    private final int[] kinds = new int[MAX_FUSED];
+    private final String[] describes = new String[MAX_FUSED];
+    private final LinearRegex[] automata = new LinearRegex[MAX_FUSED];
+    private final int[] classes = new int[MAX_FUSED];
+    private final String[] affixes = new String[MAX_FUSED];
+    private final int[] mins = new int[MAX_FUSED];
+    private final int[] maxs = new int[MAX_FUSED];
+    private final int automatonMask;
+    private final int classMask;
+    private final Map<String, List<?>> remaining = new LinkedHashMap<>();
+
+    FusedRules(Map<String, ? extends List<?>> rules) {
+        final Map<String, java.util.regex.Pattern> builtIn = RuleSet.builtInPatterns();
+        int n = 0;
+        int automatonRules = 0;
+        int classRules = 0;
+        for (Map.Entry<String, ? extends List<?>> rule : rules.entrySet()) {
+            final String name = rule.getKey();
+            final List<?> args = rule.getValue();
+            int kind = -1;
+            String describe = name;
+
+            if (n < MAX_FUSED) {
+                if (args.isEmpty() && (name.equals("hasDigit") || name.equals("hasLetter"))) {
+                    kind = HAS_CLASSES;
+                    classes[n] = name.equals("hasDigit") ? AsciiClass.DIGIT : AsciiClass.LETTER;
+                } else if (args.isEmpty() && onlyClasses(name) != 0) {
+                    kind = ONLY_CLASSES;
+                    classes[n] = onlyClasses(name);
+                } else if (args.isEmpty() && name.equals("colorHex")) {
+                    final LinearRegex automaton = LinearRegex.compile(builtIn.get(name).pattern());
+                    if (automaton.isLinear()) {
+                        kind = AUTOMATON;
+                        automata[n] = automaton;
+                    }
+                } else if (args.isEmpty() && name.equals("allLowerCase")) {
+                    kind = LOWER_CASE;
+                } else if (args.isEmpty() && name.equals("allUpperCase")) {
+                    kind = UPPER_CASE;
+                } else if (args.size() == 1 && args.get(0) instanceof String) {
+                    final String arg = (String) args.get(0);
+                    describe = name + ";" + arg;
+                    if (name.equals("startWith")) {
+                        kind = START_WITH;
+                        affixes[n] = arg;
+                    } else if (name.equals("endWith")) {
+                        kind = END_WITH;
+                        affixes[n] = arg;
+                    } else if (name.equals("regexLinear")) {
+                        final LinearRegex automaton = LinearRegex.compile(arg);
+                        if (automaton.isLinear()) {
+                            kind = AUTOMATON;
+                            automata[n] = automaton;
+                        }
+                    }
+                } else if (args.size() == 1 && args.get(0) instanceof Integer) {
+                    mins[n] = (Integer) args.get(0);
+                    maxs[n] = mins[n];
+                    describe = name + ";" + mins[n];
+                    if (name.equals("minLength")) {
+                        kind = MIN_LENGTH;
+                    } else if (name.equals("maxLength")) {
+                        kind = MAX_LENGTH;
+                    }
+                } else if (args.size() == 2 && args.get(0) instanceof Integer && args.get(1) instanceof Integer && name.equals("length")) {
+                    kind = LENGTH;
+                    mins[n] = (Integer) args.get(0);
+                    maxs[n] = (Integer) args.get(1);
+                    describe = name + ";" + mins[n] + ";" + maxs[n];
+                }
+            }
+
+            if (kind < 0) {
+                remaining.put(name, args);
+                continue;
+            }
+            kinds[n] = kind;
+            describes[n] = describe;
+            if (kind == AUTOMATON) {
+                automatonRules |= 1 << n;
+            } else if (kind == LOWER_CASE || kind == UPPER_CASE || kind == ONLY_CLASSES || kind == HAS_CLASSES) {
+                classRules |= 1 << n;
+            }
+            n++;
+        }
+        this.count = n;
+        this.automatonMask = automatonRules;
+        this.classMask = classRules;
+    }
+
+    /**
+     * @return rules that are not fused and still have to be invoked one by one
+     */
+    Map<String, List<?>> getRemaining() {
+        return remaining;
+    }
+
+    int size() {
+        return count;
+    }
+
+    /**
+     * Adds the fused rules to the engine. The value is scanned once, when the first of them is evaluated.
+     */
+    void apply(ValidationEngineString engine) {
+        if (count == 0) {
+            return;
+        }
+        final int[] failures = {-1};
+        for (int i = 0; i < count; i++) {
+            final int bit = 1 << i;
+            engine.must(s -> {
+                if (failures[0] < 0) {
+                    failures[0] = scan(s, engine.getBudget());
+                }
+                return (failures[0] & bit) == 0;
+            }, null, describes[i]);
+        }
+    }
+
+    /**
+     * @return bit mask of the failed rules
+     */
+    int scan(String value, ValidationBudget budget) {
+        if (value == null) {
+            int failed = 0;
+            for (int i = 0; i < count; i++) {
+                if (kinds[i] != MAX_LENGTH) {
+                    failed |= 1 << i;
+                }
+            }
+            return failed;
+        }
+
+        int failed = 0;
+        final int length = value.length();
+        for (int i = 0; i < count; i++) {
+            switch (kinds[i]) {
+                case START_WITH:
+                    failed |= value.startsWith(affixes[i]) ? 0 : 1 << i;
+                    break;
+                case END_WITH:
+                    failed |= value.endsWith(affixes[i]) ? 0 : 1 << i;
+                    break;
+                case MIN_LENGTH:
+                    failed |= length >= mins[i] ? 0 : 1 << i;
+                    break;
+                case MAX_LENGTH:
+                    failed |= length <= maxs[i] ? 0 : 1 << i;
+                    break;
+                case LENGTH:
+                    failed |= length >= mins[i] && length <= maxs[i] ? 0 : 1 << i;
+                    break;
+                default:
+            }
+        }
+        if (automatonMask == 0 && classMask == 0) {
+            return failed;
+        }
+
+        final LinearRegex.DState[] states = automatonMask == 0 ? null : new LinearRegex.DState[count];
+        for (int r = 0; r < count; r++) {
+            if (kinds[r] == AUTOMATON) {
+                states[r] = automata[r].start();
+            }
+        }
+
+        final CharSequence chars = budget == null ? value : budget.wrap(value);
+        int alive = automatonMask;
+        int seen = 0;
+        int i = 0;
+        if (alive == 0) {
+            seen = AsciiClass.scan(chars);
+            i = length;
+        }
+        while (i < length) {
+            final char ch = chars.charAt(i++);
+            seen |= AsciiClass.of(ch);
+            if (alive == 0) {
+                continue;
+            }
+            int c = ch;
+            if (Character.isHighSurrogate(ch) && i < length && Character.isLowSurrogate(chars.charAt(i))) {
+                final char low = chars.charAt(i++);
+                seen |= AsciiClass.of(low);
+                c = Character.toCodePoint(ch, low);
+            }
+            for (int r = 0; r < count; r++) {
+                if ((alive & (1 << r)) != 0) {
+                    states[r] = automata[r].step(states[r], c);
+                    if (states[r] == null) {
+                        failed |= 1 << r;
+                        alive &= ~(1 << r);
+                    }
+                }
+            }
+        }
+
+        for (int r = 0; r < count; r++) {
+            boolean valid;
+            switch (kinds[r]) {
+                case AUTOMATON:
+                    valid = (alive & (1 << r)) == 0 || LinearRegex.accepts(states[r]);
+                    break;
+                case ONLY_CLASSES:
+                    valid = AsciiClass.only(seen, classes[r]);
+                    break;
+                case HAS_CLASSES:
+                    valid = AsciiClass.has(seen, classes[r]);
+                    break;
+                case LOWER_CASE:
+                    // String case mapping is not per char outside ASCII, leave it to RuleSet
+                    valid = (seen & AsciiClass.NON_ASCII) != 0 ? RuleSet.allLowerCase(value) : (seen & AsciiClass.UPPER) == 0;
+                    break;
+                case UPPER_CASE:
+                    valid = (seen & AsciiClass.NON_ASCII) != 0 ? RuleSet.allUpperCase(value) : (seen & AsciiClass.LOWER) == 0;
+                    break;
+                default:
+                    continue;
+            }
+            if (!valid) {
+                failed |= 1 << r;
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * @return classes of a rule that allows only some ASCII classes, 0 for other rules
+     */
+    private static int onlyClasses(String rule) {
+        switch (rule) {
+            case "digit":
+                return AsciiClass.DIGIT;
+            case "letter":
+                return AsciiClass.LETTER;
+            case "alphaNum":
+                return AsciiClass.ALPHA_NUM;
+            case "alphaNumSpace":
+                return AsciiClass.ALPHA_NUM | AsciiClass.SPACE;
+            case "alphaNumLowerCase":
+                return AsciiClass.LOWER | AsciiClass.DIGIT;
+            case "alphaNumSpaceLowerCase":
+                return AsciiClass.LOWER | AsciiClass.DIGIT | AsciiClass.SPACE;
+            case "alphaNumUpperCase":
+                return AsciiClass.UPPER | AsciiClass.DIGIT;
+            case "alphaNumSpaceUpperCase":
+                return AsciiClass.UPPER | AsciiClass.DIGIT | AsciiClass.SPACE;
+            case "alphaNumDash":
+                return AsciiClass.ALPHA_NUM | AsciiClass.DASH;
+            case "alphaNumDashSpace":
+                return AsciiClass.ALPHA_NUM | AsciiClass.DASH | AsciiClass.SPACE;
+            case "alphaNumUnderscore":
+                return AsciiClass.ALPHA_NUM | AsciiClass.UNDERSCORE;
+            case "alphaNumUnderscoreSpace":
+                return AsciiClass.ALPHA_NUM | AsciiClass.UNDERSCORE | AsciiClass.SPACE;
+            case "alphaNumQuoteSpace":
+                return AsciiClass.ALPHA_NUM | AsciiClass.QUOTE | AsciiClass.SPACE;
+            case "alphaNumQuoteDashSpace":
+                return AsciiClass.ALPHA_NUM | AsciiClass.QUOTE | AsciiClass.DASH | AsciiClass.SPACE;
+            case "alphaQuoteSpace":
+                return AsciiClass.LETTER | AsciiClass.QUOTE | AsciiClass.SPACE;
+            case "alphaQuoteDashSpace":
+                return AsciiClass.LETTER | AsciiClass.QUOTE | AsciiClass.DASH | AsciiClass.SPACE;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package io.zeko.validation;
+
+/**
+ * Single-pass scanner for host names, domains and subdomains.
+ * <p>
+ * Labels follow RFC 952 and RFC 1123: 1 to 63 letters, digits or hyphens, not starting or ending with a hyphen. The
+ * rules differ in the first char, the number of labels, the case of letters, the TLD and the trailing dot. The TLD can
+ * also be checked against a built-in table of country-code, generic and common new TLDs, a snapshot of the IANA root
+ * zone that does not hold every TLD.
+ * <p>
+ * HostName.isDomain("example.com", true)
+ */
+public final class HostName {
+    static final int MAX_LABEL = 63;
+    static final int MAX_LENGTH = 255;
+
+    private static final int FIRST_LETTER = 1;
+    private static final int LOWER_CASE = 1 << 1;
+    private static final int TRAILING_DOT = 1 << 2;
+    private static final int LETTER_TLD = 1 << 3;
+    private static final int KNOWN_TLD = 1 << 4;
+
+    // sorted, lower case
+    private static final String[] TLDS = (
+            "ac academy ad ae aero af ag agency ai al am ao app aq ar arpa art as asia at au aw ax az "
+            + "ba bank bb bd be bf bg bh bi biz bj blog bm bn bo bq br bs bt bv bw by bz "
+            + "ca cat cc cd cf cg ch ci ck cl click cloud club cm cn co com company coop cr cu cv cw cx cy cz "
+            + "de design dev digital dj dk dm do dz "
+            + "ec edu ee eg email er es et eu "
+            + "fi finance fj fk fm fo fr fun "
+            + "ga gb gd ge gf gg gh gi gl global gm gn gov gp gq gr group gs gt gu gw gy "
+            + "health hk hm hn hr ht hu "
+            + "id ie il im in inc info insurance int io iq ir is it "
+            + "je jm jo jobs jp "
+            + "ke kg kh ki km kn kp kr kw ky kz "
+            + "la law lb lc li life link live lk llc lr ls lt ltd lu lv ly "
+            + "ma mc md me media mg mh mil mk ml mm mn mo mobi mp mq mr ms mt mu museum mv mw mx my mz "
+            + "na name nc ne net network news nf ng ni nl no np nr nu nz "
+            + "om one online org "
+            + "pa page pe pf pg ph pk pl pm pn post pr pro ps pt pw py "
+            + "qa "
+            + "re ro rs ru rw "
+            + "sa sb sc sd se services sg sh shop si site sj sk sl sm sn so software solutions space sr ss st store "
+            + "studio su support sv sx sy systems sz "
+            + "tc td team tech technology tel tf tg th tj tk tl tm tn to today tools top tr training travel tt tv tw tz "
+            + "ua ug uk us uy uz "
+            + "va vc ve vg vi vip vn vu "
+            + "website wf wiki win work works world ws "
+            + "xxx xyz "
+            + "ye yt "
+            + "za zm zone zw").split(" ");
+
+    private HostName() {
+    }
+
+    /**
+     * Host name as per RFC 1123: labels that may start with a digit, an optional trailing dot, at most 255 chars
+     */
+    public static boolean isHostName(CharSequence s) {
+        return scan(s, TRAILING_DOT, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Host name as per RFC 952, that does not start with a digit and has no trailing dot
+     */
+    public static boolean isServerName(CharSequence s) {
+        return scan(s, FIRST_LETTER, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param allowLevels levels allowed below a subdomain of a second level domain, sub.example.com is level 0
+     */
+    public static boolean isSubdomain(CharSequence s, int allowLevels) {
+        return scan(s, 0, 3, allowLevels + 3);
+    }
+
+    /**
+     * Lower case domain with at least two labels and a TLD of letters
+     *
+     * @param knownTld true to accept only the TLDs of the built-in table
+     */
+    public static boolean isDomain(CharSequence s, boolean knownTld) {
+        return scan(s, LOWER_CASE | LETTER_TLD | (knownTld ? KNOWN_TLD : 0), 2, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return true when the chars from start to end are a TLD of the built-in table, in any case
+     */
+    public static boolean isKnownTld(CharSequence s, int start, int end) {
+        int low = 0;
+        int high = TLDS.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = compare(TLDS[mid], s, start, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int compare(String tld, CharSequence s, int start, int end) {
+        final int length = Math.min(tld.length(), end - start);
+        for (int i = 0; i < length; i++) {
+            final int diff = tld.charAt(i) - Character.toLowerCase(s.charAt(start + i));
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return tld.length() - (end - start);
+    }
+
+    /**
+     * Host name of a URL: two labels or more in any case, a TLD of letters and an optional trailing dot
+     */
+    static boolean isQualified(CharSequence s, int from, int to) {
+        return scan(s, from, to, TRAILING_DOT | LETTER_TLD, 2, Integer.MAX_VALUE);
+    }
+
+    private static boolean scan(CharSequence s, int flags, int minLabels, int maxLabels) {
+        return scan(s, 0, s.length(), flags, minLabels, maxLabels);
+    }
+
+    private static boolean scan(CharSequence s, int from, int to, int flags, int minLabels, int maxLabels) {
+        int end = to;
+        if ((flags & TRAILING_DOT) != 0 && end - from > 1 && s.charAt(end - 1) == '.') {
+            if (end - from > MAX_LENGTH) {
+                return false;
+            }
+            end--;
+        }
+        if (end == from || end - from > MAX_LENGTH) {
+            return false;
+        }
+
+        int labels = 0;
+        int labelStart = from;
+        boolean labelLetters = true;
+        for (int i = from; i <= end; i++) {
+            final char c = i < end ? s.charAt(i) : '.';
+            if (c == '.') {
+                final int labelLength = i - labelStart;
+                if (labelLength == 0 || labelLength > MAX_LABEL || s.charAt(i - 1) == '-' || ++labels > maxLabels) {
+                    return false;
+                }
+                if (i < end) {
+                    labelStart = i + 1;
+                    labelLetters = true;
+                }
+                continue;
+            }
+            final boolean lower = c >= 'a' && c <= 'z';
+            final boolean letter = lower || ((flags & LOWER_CASE) == 0 && c >= 'A' && c <= 'Z');
+            final boolean digit = c >= '0' && c <= '9';
+            if (!letter && !digit && c != '-') {
+                return false;
+            }
+            if (i == labelStart && (c == '-' || (i == from && !letter && (flags & FIRST_LETTER) != 0))) {
+                return false;
+            }
+            labelLetters &= letter;
+        }
+        if (labels < minLabels) {
+            return false;
+        }
+        if ((flags & LETTER_TLD) != 0 && (!labelLetters || end - labelStart < 2)) {
+            return false;
+        }
+        return (flags & KNOWN_TLD) == 0 || isKnownTld(s, labelStart, end);
+    }
+}
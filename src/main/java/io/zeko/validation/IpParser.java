@@ -0,0 +1,241 @@
+package io.zeko.validation;
+
+/**
+ * Parsers for IPv4 and IPv6 addresses and CIDR blocks that work on primitives and do not allocate.
+ * <p>
+ * IPv4 is dotted decimal with four octets from 0 to 255 and no leading zeros. IPv6 is the RFC 4291 text form: eight
+ * groups of 1 to 4 hex digits, with at most one "::" for a run of zero groups and an optional IPv4 address in place
+ * of the last two groups. Zone IDs such as %eth0 are not accepted. A CIDR block is an address, a slash and a prefix
+ * length of up to 32 or 128 bits; host bits may be set, as in 192.168.1.10/24.
+ * <p>
+ * IpParser.parseIpv4("10.0.0.1") == 0x0A000001L
+ */
+public final class IpParser {
+    public static final int IPV4 = 4;
+    public static final int IPV6 = 6;
+
+    private IpParser() {
+    }
+
+    public static boolean isIpv4(CharSequence s) {
+        return parseIpv4(s, 0, s.length()) >= 0;
+    }
+
+    public static boolean isIpv6(CharSequence s) {
+        return parseIpv6(s, 0, s.length(), null);
+    }
+
+    public static boolean isIp(CharSequence s) {
+        return parse(s, 0, s.length(), null) != 0;
+    }
+
+    public static boolean isCidr(CharSequence s) {
+        return parseCidr(s, null) >= 0;
+    }
+
+    /**
+     * @return the address as an unsigned 32-bit value, -1 when s is not an IPv4 address
+     */
+    public static long parseIpv4(CharSequence s) {
+        return parseIpv4(s, 0, s.length());
+    }
+
+    /**
+     * @param out receives the high and low 64 bits of the address, may be null
+     * @return true when s is an IPv6 address
+     */
+    public static boolean parseIpv6(CharSequence s, long[] out) {
+        return parseIpv6(s, 0, s.length(), out);
+    }
+
+    static long parseIpv4(CharSequence s, int from, int to) {
+        long address = 0;
+        int octets = 0;
+        int i = from;
+        while (i < to) {
+            int value = 0;
+            final int start = i;
+            while (i < to && i - start < 3) {
+                final char c = s.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = value * 10 + (c - '0');
+                i++;
+            }
+            if (i == start || value > 255 || (i - start > 1 && s.charAt(start) == '0')) {
+                return -1;
+            }
+            address = address << 8 | value;
+            octets++;
+            if (i == to) {
+                break;
+            }
+            if (octets == 4 || s.charAt(i) != '.') {
+                return -1;
+            }
+            i++;
+            if (i == to) {
+                return -1;
+            }
+        }
+        return octets == 4 ? address : -1;
+    }
+
+    static boolean parseIpv6(CharSequence s, int from, int to, long[] out) {
+        if (to - from < 2) {
+            return false;
+        }
+        // groups before "::" go to the head, the ones after it to the tail
+        long headHigh = 0;
+        long headLow = 0;
+        long tailHigh = 0;
+        long tailLow = 0;
+        int groups = 0;
+        int head = -1;
+        int i = from;
+        if (s.charAt(i) == ':') {
+            if (s.charAt(i + 1) != ':') {
+                return false;
+            }
+            head = 0;
+            i += 2;
+        }
+
+        while (i < to) {
+            int value = 0;
+            final int start = i;
+            while (i < to && i - start < 4) {
+                final int digit = hex(s.charAt(i));
+                if (digit < 0) {
+                    break;
+                }
+                value = value << 4 | digit;
+                i++;
+            }
+            int count = 1;
+            if (i < to && s.charAt(i) == '.') {
+                final long ipv4 = parseIpv4(s, start, to);
+                if (ipv4 < 0) {
+                    return false;
+                }
+                value = (int) ipv4;
+                count = 2;
+                i = to;
+            } else if (i == start) {
+                return false;
+            }
+            groups += count;
+            if (groups > 8) {
+                return false;
+            }
+            final int bits = count * 16;
+            final long group = count == 2 ? value & 0xFFFFFFFFL : value;
+            if (head < 0) {
+                headHigh = headHigh << bits | headLow >>> (64 - bits);
+                headLow = headLow << bits | group;
+            } else {
+                tailHigh = tailHigh << bits | tailLow >>> (64 - bits);
+                tailLow = tailLow << bits | group;
+            }
+            if (i == to) {
+                break;
+            }
+            if (s.charAt(i) != ':' || count == 2) {
+                return false;
+            }
+            i++;
+            if (i < to && s.charAt(i) == ':') {
+                if (head >= 0) {
+                    return false;
+                }
+                head = groups;
+                i++;
+            } else if (i == to) {
+                return false;
+            }
+        }
+
+        if (head < 0 ? groups != 8 : groups > 7) {
+            return false;
+        }
+        if (out != null) {
+            if (head >= 0) {
+                // the head moves up past the tail and the groups that "::" stands for
+                for (int shift = 8 - head; shift > 0; shift--) {
+                    headHigh = headHigh << 16 | headLow >>> 48;
+                    headLow = headLow << 16;
+                }
+            }
+            out[0] = headHigh | tailHigh;
+            out[1] = headLow | tailLow;
+        }
+        return true;
+    }
+
+    private static int hex(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * @param out receives the address, the IPv4 value in out[1] and 0 in out[0]; may be null
+     * @return {@link #IPV4}, {@link #IPV6} or 0 when s is not an address
+     */
+    static int parse(CharSequence s, int from, int to, long[] out) {
+        for (int i = from; i < to; i++) {
+            final char c = s.charAt(i);
+            if (c == ':') {
+                return parseIpv6(s, from, to, out) ? IPV6 : 0;
+            }
+            if (c == '.') {
+                break;
+            }
+        }
+        final long ipv4 = parseIpv4(s, from, to);
+        if (ipv4 < 0) {
+            return 0;
+        }
+        if (out != null) {
+            out[0] = 0;
+            out[1] = ipv4;
+        }
+        return IPV4;
+    }
+
+    /**
+     * @param out receives the address as for {@link #parse}, may be null
+     * @return family in the high byte and prefix length in the low byte, -1 when s is not a CIDR block
+     */
+    static int parseCidr(CharSequence s, long[] out) {
+        final int length = s.length();
+        int slash = length - 1;
+        while (slash >= 0 && s.charAt(slash) != '/') {
+            slash--;
+        }
+        if (slash < 0 || slash == length - 1 || length - slash > 4) {
+            return -1;
+        }
+        int prefix = 0;
+        for (int i = slash + 1; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c < '0' || c > '9' || (i == slash + 1 && c == '0' && length - slash > 2)) {
+                return -1;
+            }
+            prefix = prefix * 10 + (c - '0');
+        }
+        final int family = parse(s, 0, slash, out);
+        if (family == 0 || prefix > (family == IPV4 ? 32 : 128)) {
+            return -1;
+        }
+        return family << 8 | prefix;
+    }
+}
@@ -0,0 +1,197 @@
+package io.zeko.validation;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Set of IPv4 and IPv6 CIDR blocks compiled into a binary trie, for allow and deny lists of addresses.
+ * <p>
+ * IPv4 blocks are stored as IPv4-mapped IPv6 blocks (::ffff:0:0/96), so one trie over 128-bit keys holds both
+ * families and an IPv4-mapped IPv6 address matches the IPv4 blocks. The nodes are kept in int arrays, and a lookup
+ * follows at most one node per prefix bit, whatever the number of blocks.
+ * <p>
+ * IpRangeSet office = IpRangeSet.of("10.0.0.0/8", "192.168.0.0/16", "2001:db8::/32");<br>
+ * valid(input, "ip", note).required().ipInRanges(office);<br>
+ */
+public final class IpRangeSet {
+    private static final int IPV4_MAPPED_PREFIX = 96;
+    private static final long IPV4_MAPPED_LOW = 0xFFFFL << 32;
+    private static final int MAX_CACHED_SETS = 128;
+    private static final int NONE = 0;
+    private static final int COVERED = -1;
+    private static final Map<List<String>, IpRangeSet> CACHE = new ConcurrentHashMap<>();
+
+    /** two children per node, 0 for none; node 0 is the root and is never a child */
+    private int[] children = new int[64];
+    /** one bit per node, set when a block ends at the node */
+    private long[] terminal = new long[1];
+    private int nodeCount = 1;
+    private final int blockCount;
+    /** node of ::ffff:0:0/96 where IPv4 lookups start, COVERED when a shorter block holds all of it */
+    private final int ipv4Root;
+
+    private IpRangeSet(Collection<? extends CharSequence> blocks) {
+        final long[] address = new long[2];
+        for (CharSequence block : blocks) {
+            int family;
+            int prefix;
+            final int cidr = IpParser.parseCidr(block, address);
+            if (cidr >= 0) {
+                family = cidr >> 8;
+                prefix = cidr & 0xFF;
+            } else {
+                family = IpParser.parse(block, 0, block.length(), address);
+                if (family == 0) {
+                    throw new IllegalArgumentException("Invalid CIDR block: " + block);
+                }
+                prefix = family == IpParser.IPV4 ? 32 : 128;
+            }
+            if (family == IpParser.IPV4) {
+                address[1] |= IPV4_MAPPED_LOW;
+                prefix += IPV4_MAPPED_PREFIX;
+            }
+            insert(address[0], address[1], prefix);
+        }
+        this.blockCount = blocks.size();
+        children = Arrays.copyOf(children, nodeCount * 2);
+        terminal = Arrays.copyOf(terminal, (nodeCount + 63) >>> 6);
+        ipv4Root = find(0, IPV4_MAPPED_LOW, IPV4_MAPPED_PREFIX);
+    }
+
+    /**
+     * @param blocks CIDR blocks such as 10.0.0.0/8 or 2001:db8::/32, or single addresses
+     * @return compiled set
+     * @throws IllegalArgumentException when a block is not valid
+     */
+    public static IpRangeSet of(Collection<? extends CharSequence> blocks) {
+        return new IpRangeSet(blocks);
+    }
+
+    public static IpRangeSet of(String... blocks) {
+        return new IpRangeSet(Arrays.asList(blocks));
+    }
+
+    /**
+     * Compiled set for the blocks of a rule string such as "ipInRanges;10.0.0.0/8;192.168.0.0/16", reused between
+     * validations.
+     */
+    static IpRangeSet cached(List<String> blocks) {
+        IpRangeSet compiled = CACHE.get(blocks);
+        if (compiled == null) {
+            if (CACHE.size() >= MAX_CACHED_SETS) {
+                CACHE.clear();
+            }
+            compiled = new IpRangeSet(blocks);
+            CACHE.put(blocks, compiled);
+        }
+        return compiled;
+    }
+
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    /**
+     * @return true when the address is an IPv4 or IPv6 address inside one of the blocks
+     */
+    public boolean contains(CharSequence address) {
+        final long ipv4 = IpParser.parseIpv4(address, 0, address.length());
+        if (ipv4 >= 0) {
+            return containsIpv4(ipv4);
+        }
+        final long[] ipv6 = new long[2];
+        return IpParser.parseIpv6(address, ipv6) && contains(ipv6[0], ipv6[1]);
+    }
+
+    /**
+     * @param high high 64 bits of an IPv6 address
+     * @param low  low 64 bits of an IPv6 address
+     * @return true when the address is inside one of the blocks
+     */
+    public boolean contains(long high, long low) {
+        if (high == 0 && low >>> 32 == IPV4_MAPPED_LOW >>> 32) {
+            return containsIpv4(low & 0xFFFFFFFFL);
+        }
+        return find(high, low, 128) == COVERED;
+    }
+
+    /**
+     * @param address IPv4 address as an unsigned 32-bit value
+     * @return true when the address is inside one of the blocks
+     */
+    public boolean containsIpv4(long address) {
+        if (ipv4Root == COVERED) {
+            return true;
+        }
+        if (ipv4Root == NONE) {
+            return false;
+        }
+        int node = ipv4Root;
+        for (int bit = IPV4_MAPPED_PREFIX; bit < 128; bit++) {
+            if (isTerminal(node)) {
+                return true;
+            }
+            node = children[node * 2 + bitAt(0, address, bit)];
+            if (node == NONE) {
+                return false;
+            }
+        }
+        return isTerminal(node);
+    }
+
+    /**
+     * @return node at the depth, COVERED when a block on the way holds the address, NONE when there is no such node
+     */
+    private int find(long high, long low, int depth) {
+        int node = 0;
+        for (int bit = 0; bit < depth; bit++) {
+            if (isTerminal(node)) {
+                return COVERED;
+            }
+            node = children[node * 2 + bitAt(high, low, bit)];
+            if (node == NONE) {
+                return NONE;
+            }
+        }
+        return isTerminal(node) ? COVERED : node;
+    }
+
+    private void insert(long high, long low, int prefix) {
+        int node = 0;
+        for (int bit = 0; bit < prefix; bit++) {
+            if (isTerminal(node)) {
+                // already covered by a shorter block
+                return;
+            }
+            final int slot = node * 2 + bitAt(high, low, bit);
+            if (children[slot] == 0) {
+                // newNode() may replace the array
+                final int child = newNode();
+                children[slot] = child;
+            }
+            node = children[slot];
+        }
+        terminal[node >>> 6] |= 1L << node;
+    }
+
+    private int newNode() {
+        if (nodeCount * 2 == children.length) {
+            children = Arrays.copyOf(children, children.length * 2);
+        }
+        if (nodeCount >>> 6 == terminal.length) {
+            terminal = Arrays.copyOf(terminal, terminal.length * 2);
+        }
+        return nodeCount++;
+    }
+
+    private boolean isTerminal(int node) {
+        return (terminal[node >>> 6] & 1L << node) != 0;
+    }
+
+    private static int bitAt(long high, long low, int bit) {
+        return (int) (bit < 64 ? high >>> (63 - bit) : low >>> (127 - bit)) & 1;
+    }
+}
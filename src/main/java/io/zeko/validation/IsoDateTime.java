@@ -0,0 +1,228 @@
+package io.zeko.validation;
+
+import java.util.TimeZone;
+
+/**
+ * ISO-8601 / RFC 3339 date-time parser that reads the fields as primitives and does not build a Calendar or Date.
+ * <p>
+ * yyyy-MM-dd'T'HH:mm[:ss[.fraction]][offset]
+ * <p>
+ * The date and time up to the seconds have a fixed layout, so their fields are read at fixed positions. The separator
+ * may be T, t or a space as RFC 3339 allows. The fraction has 1 to 9 digits after a dot or a comma. The offset is Z,
+ * z, +HH:mm, +HHmm or +HH, up to 18 hours; without an offset the value is a local date-time in the time zone given.
+ * Leap seconds (60) are not accepted.
+ * <p>
+ * Rules use it when the format is "iso": dateTimeAfter("2024-05-01T10:00:00Z", "now", "iso")
+ */
+public final class IsoDateTime {
+    /** format name that selects this parser in the dateTime rules */
+    public static final String FORMAT = "iso";
+
+    public static final int EPOCH_SECOND = 0;
+    public static final int NANOS = 1;
+    /** offset in seconds, {@link #NO_OFFSET} for a local date-time */
+    public static final int OFFSET = 2;
+    /** size of the array for {@link #parse} */
+    public static final int FIELDS = 3;
+    public static final long NO_OFFSET = Long.MIN_VALUE;
+
+    private static final int MAX_OFFSET = 18 * 3600;
+    private static final int[] NANO_SCALE = {
+            0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    private IsoDateTime() {
+    }
+
+    /**
+     * @return true when the format selects this parser, "iso" in any case
+     */
+    public static boolean isIsoFormat(String format) {
+        return FORMAT.equalsIgnoreCase(format);
+    }
+
+    public static boolean isValid(CharSequence s) {
+        return parse(s, null);
+    }
+
+    /**
+     * @param out receives the epoch second of the local date-time, the nanos and the offset, see {@link #EPOCH_SECOND}
+     *            to {@link #OFFSET}; may be null
+     * @return true when s is a valid date-time
+     */
+    public static boolean parse(CharSequence s, long[] out) {
+        final int length = s.length();
+        if (length < 16 || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(13) != ':') {
+            return false;
+        }
+        final char separator = s.charAt(10);
+        if (separator != 'T' && separator != 't' && separator != ' ') {
+            return false;
+        }
+        final int year = digits(s, 0, 4);
+        final int month = digits(s, 5, 2);
+        final int day = digits(s, 8, 2);
+        final int hour = digits(s, 11, 2);
+        final int minute = digits(s, 14, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return false;
+        }
+
+        int i = 16;
+        int second = 0;
+        int nanos = 0;
+        if (i < length && s.charAt(i) == ':') {
+            second = i + 3 <= length ? digits(s, i + 1, 2) : -1;
+            if (second < 0 || second > 59) {
+                return false;
+            }
+            i += 3;
+            if (i < length && (s.charAt(i) == '.' || s.charAt(i) == ',')) {
+                final int start = ++i;
+                while (i < length && i - start < 9 && isDigit(s.charAt(i))) {
+                    nanos = nanos * 10 + (s.charAt(i) - '0');
+                    i++;
+                }
+                if (i == start) {
+                    return false;
+                }
+                nanos *= NANO_SCALE[i - start];
+            }
+        }
+
+        long offset = NO_OFFSET;
+        if (i < length) {
+            final char sign = s.charAt(i);
+            if ((sign == 'Z' || sign == 'z') && i + 1 == length) {
+                offset = 0;
+            } else if (sign == '+' || sign == '-') {
+                offset = parseOffset(s, i + 1, length);
+                if (offset < 0) {
+                    return false;
+                }
+                if (sign == '-') {
+                    offset = -offset;
+                }
+            } else {
+                return false;
+            }
+        }
+
+        if (out != null) {
+            out[EPOCH_SECOND] = epochDay(year, month, day) * 86400 + hour * 3600 + minute * 60 + second
+                    - (offset == NO_OFFSET ? 0 : offset);
+            out[NANOS] = nanos;
+            out[OFFSET] = offset;
+        }
+        return true;
+    }
+
+    /**
+     * @return epoch milliseconds of s, a local date-time is taken in the time zone; Long.MIN_VALUE when s is not valid
+     */
+    public static long toEpochMilli(CharSequence s, TimeZone timeZone) {
+        final long[] fields = new long[FIELDS];
+        if (!parse(s, fields)) {
+            return Long.MIN_VALUE;
+        }
+        return toEpochMilli(fields, timeZone);
+    }
+
+    static long toEpochMilli(long[] fields, TimeZone timeZone) {
+        long millis = fields[EPOCH_SECOND] * 1000 + fields[NANOS] / 1_000_000;
+        if (fields[OFFSET] == NO_OFFSET) {
+            // the offset at the local time shifted by the offset, right but for the hour around a transition
+            millis -= timeZone.getOffset(millis - timeZone.getOffset(millis));
+        }
+        return millis;
+    }
+
+    /**
+     * Compares two parsed date-times at nanosecond precision, local ones are taken in the time zone
+     */
+    static int compare(long[] a, long[] b, TimeZone timeZone) {
+        final long secondsA = epochSecond(a, timeZone);
+        final long secondsB = epochSecond(b, timeZone);
+        if (secondsA != secondsB) {
+            return secondsA < secondsB ? -1 : 1;
+        }
+        return Long.compare(a[NANOS], b[NANOS]);
+    }
+
+    private static long epochSecond(long[] fields, TimeZone timeZone) {
+        if (fields[OFFSET] != NO_OFFSET) {
+            return fields[EPOCH_SECOND];
+        }
+        return Math.floorDiv(toEpochMilli(fields, timeZone), 1000);
+    }
+
+    /**
+     * Fills the fields with the current time, at millisecond precision
+     */
+    static void now(long[] fields) {
+        final long millis = System.currentTimeMillis();
+        fields[EPOCH_SECOND] = Math.floorDiv(millis, 1000);
+        fields[NANOS] = Math.floorMod(millis, 1000) * 1_000_000L;
+        fields[OFFSET] = 0;
+    }
+
+    /**
+     * HH:mm, HHmm or HH up to the end, in seconds; -1 when not valid
+     */
+    private static long parseOffset(CharSequence s, int i, int length) {
+        final int hours = i + 2 <= length ? digits(s, i, 2) : -1;
+        int minutes = 0;
+        if (length - i == 5 && s.charAt(i + 2) == ':') {
+            minutes = digits(s, i + 3, 2);
+        } else if (length - i == 4) {
+            minutes = digits(s, i + 2, 2);
+        } else if (length - i != 2) {
+            return -1;
+        }
+        if (hours < 0 || minutes < 0 || minutes > 59) {
+            return -1;
+        }
+        final long offset = hours * 3600L + minutes * 60L;
+        return offset > MAX_OFFSET ? -1 : offset;
+    }
+
+    /**
+     * @return value of the digits, -1 when one of the chars is not a digit
+     */
+    private static int digits(CharSequence s, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            final char c = s.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int daysInMonth(int year, int month) {
+        if (month == 2) {
+            return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * Days since 1970-01-01 in the proleptic Gregorian calendar
+     */
+    static long epochDay(int year, int month, int day) {
+        // March-based year so that the leap day is the last day of the year
+        final int y = month <= 2 ? year - 1 : year;
+        final int era = Math.floorDiv(y, 400);
+        final int yearOfEra = y - era * 400;
+        final int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+}
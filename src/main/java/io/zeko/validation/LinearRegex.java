@@ -0,0 +1,453 @@
+package io.zeko.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Whole-input regex matcher that runs in time linear in the input, for expressions from untrusted configuration.
+ * <p>
+ * The expression is compiled to a Thompson NFA over classes of equivalent characters, and the DFA states are built
+ * lazily while matching and cached, so each character of the input costs one table lookup once the DFA is warm.
+ * Supported syntax is the RE2 subset of {@link Pattern}: literals, character classes, predefined classes such as \d
+ * or \w, the POSIX \p{...} classes, alternation, groups, greedy and lazy quantifiers including bounded ones, the
+ * inline flags i, s, d and x, and ^ \A $ \z \Z anchors. Expressions using back references, lookaround, atomic groups,
+ * possessive quantifiers, word boundaries or multiline anchors are matched by {@link Pattern} instead, see
+ * {@link #isLinear()}.
+ * <p>
+ * Compiled expressions are cached, instances are thread-safe.
+ */
+public final class LinearRegex {
+    private static final int MAX_NFA_STATES = 20_000;
+    private static final int MAX_DFA_STATES = 4_096;
+    private static final int MAX_CACHED_EXPRESSIONS = 512;
+    private static final Map<String, LinearRegex> CACHE = new ConcurrentHashMap<>();
+
+    private static final int CHAR = 0;
+    private static final int SPLIT = 1;
+    private static final int BEGIN = 2;
+    private static final int END = 3;
+    private static final int MATCH = 4;
+
+    private final String regex;
+    private final Pattern fallback;
+
+    private int[] kind;
+    private int[] out;
+    private int[] out2;
+    private long[][] classes;
+    private int[] boundaries;
+    private final int[] asciiClass = new int[128];
+    private int stateCount;
+    private boolean endsBeforeTerminator;
+
+    private DState startState;
+    private DState deadState;
+    private final Map<StateKey, DState> dfa = new HashMap<>();
+
+    private LinearRegex(String regex) {
+        this.regex = regex;
+        Pattern unsupported = null;
+        try {
+            build(RegexParser.parse(regex));
+        } catch (UnsupportedSyntax err) {
+            unsupported = Pattern.compile(regex);
+        }
+        this.fallback = unsupported;
+    }
+
+    /**
+     * @param regex expression in {@link Pattern} syntax
+     * @return compiled expression, shared with other callers of the same expression
+     * @throws java.util.regex.PatternSyntaxException when the expression is not valid
+     */
+    public static LinearRegex compile(String regex) {
+        LinearRegex compiled = CACHE.get(regex);
+        if (compiled == null) {
+            if (CACHE.size() >= MAX_CACHED_EXPRESSIONS) {
+                CACHE.clear();
+            }
+            compiled = new LinearRegex(regex);
+            CACHE.put(regex, compiled);
+        }
+        return compiled;
+    }
+
+    public String getRegex() {
+        return regex;
+    }
+
+    /**
+     * @return false when the expression uses syntax outside the supported subset and is matched by {@link Pattern}
+     */
+    public boolean isLinear() {
+        return fallback == null;
+    }
+
+    /**
+     * @param input value to match
+     * @return true when the whole input matches, same as {@link java.util.regex.Matcher#matches()}
+     */
+    public boolean matches(CharSequence input) {
+        if (fallback != null) {
+            return fallback.matcher(input).matches();
+        }
+        DState state = startState;
+        final int length = input.length();
+        int i = 0;
+        while (i < length) {
+            int c = input.charAt(i++);
+            if (Character.isHighSurrogate((char) c) && i < length) {
+                final char low = input.charAt(i);
+                if (Character.isLowSurrogate(low)) {
+                    c = Character.toCodePoint((char) c, low);
+                    i++;
+                }
+            }
+            final int cls = c < 128 ? asciiClass[c] : classOf(c);
+            DState next = state.next[cls];
+            if (next == null) {
+                next = transition(state, cls);
+            }
+            if (next == deadState) {
+                return false;
+            }
+            state = next;
+        }
+        return state.acceptsAtEnd;
+    }
+
+    /**
+     * @return initial state for stepping the automaton one code point at a time, null when the expression is not linear
+     */
+    DState start() {
+        return fallback == null ? startState : null;
+    }
+
+    /**
+     * @return state after the code point, null when the input can no longer match
+     */
+    DState step(DState state, int c) {
+        final int cls = c < 128 ? asciiClass[c] : classOf(c);
+        DState next = state.next[cls];
+        if (next == null) {
+            next = transition(state, cls);
+        }
+        return next == deadState ? null : next;
+    }
+
+    static boolean accepts(DState state) {
+        return state.acceptsAtEnd;
+    }
+
+    private int classOf(int c) {
+        int index = Arrays.binarySearch(boundaries, c);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    // NFA construction
+
+    private static final class UnsupportedSyntax extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedSyntax() {
+            super(null, null, false, false);
+        }
+    }
+
+    private void build(RegexParser parser) {
+        if (!parser.isExact()) {
+            throw new UnsupportedSyntax();
+        }
+        final RegexNode root = parser.getRoot();
+        kind = new int[64];
+        out = new int[64];
+        out2 = new int[64];
+        final List<CharRanges> sets = new ArrayList<>();
+        sets.add(null);
+
+        final int match = addState(MATCH, -1, -1, sets, null);
+        final int start = compile(root, match, sets);
+        if (endsBeforeTerminator && root.chars().intersects(CharRanges.LINE_TERMINATOR)) {
+            // $ and \Z may also match before a final line terminator, only modelled when no terminator can be consumed
+            throw new UnsupportedSyntax();
+        }
+
+        final TreeSet<Integer> cuts = new TreeSet<>();
+        cuts.add(0);
+        for (CharRanges set : sets) {
+            if (set == null) {
+                continue;
+            }
+            for (int r = 0; r < set.size(); r++) {
+                cuts.add(set.lo(r));
+                if (set.hi(r) < CharRanges.MAX) {
+                    cuts.add(set.hi(r) + 1);
+                }
+            }
+        }
+        boundaries = new int[cuts.size()];
+        int b = 0;
+        for (int cut : cuts) {
+            boundaries[b++] = cut;
+        }
+        for (int c = 0; c < 128; c++) {
+            asciiClass[c] = classOf(c);
+        }
+
+        classes = new long[stateCount][];
+        for (int s = 0; s < stateCount; s++) {
+            if (kind[s] == CHAR) {
+                final CharRanges set = sets.get(s);
+                final long[] bits = new long[(boundaries.length + 63) >>> 6];
+                for (int cls = 0; cls < boundaries.length; cls++) {
+                    if (set.contains(boundaries[cls])) {
+                        bits[cls >>> 6] |= 1L << cls;
+                    }
+                }
+                classes[s] = bits;
+            }
+        }
+
+        deadState = new DState(new int[0], false, boundaries.length);
+        Arrays.fill(deadState.next, deadState);
+        final int[] startSet = closure(new int[]{start}, 1, true);
+        startState = new DState(startSet, acceptsAtEnd(startSet, true), boundaries.length);
+    }
+
+    private int addState(int type, int next, int next2, List<CharRanges> sets, CharRanges set) {
+        if (stateCount >= MAX_NFA_STATES) {
+            throw new UnsupportedSyntax();
+        }
+        if (stateCount == kind.length) {
+            kind = Arrays.copyOf(kind, stateCount * 2);
+            out = Arrays.copyOf(out, stateCount * 2);
+            out2 = Arrays.copyOf(out2, stateCount * 2);
+        }
+        kind[stateCount] = type;
+        out[stateCount] = next;
+        out2[stateCount] = next2;
+        if (sets.size() == stateCount) {
+            sets.add(set);
+        } else {
+            sets.set(stateCount, set);
+        }
+        return stateCount++;
+    }
+
+    /**
+     * Compiles the node so that a match of it continues with the next state.
+     *
+     * @return entry state of the node
+     */
+    private int compile(RegexNode node, int next, List<CharRanges> sets) {
+        if (node instanceof RegexNode.Chars) {
+            return addState(CHAR, next, -1, sets, ((RegexNode.Chars) node).set);
+        }
+        if (node instanceof RegexNode.Sequence) {
+            final List<RegexNode> items = ((RegexNode.Sequence) node).items;
+            int entry = next;
+            for (int i = items.size() - 1; i >= 0; i--) {
+                entry = compile(items.get(i), entry, sets);
+            }
+            return entry;
+        }
+        if (node instanceof RegexNode.Alternation) {
+            final List<RegexNode> branches = ((RegexNode.Alternation) node).branches;
+            int entry = compile(branches.get(branches.size() - 1), next, sets);
+            for (int i = branches.size() - 2; i >= 0; i--) {
+                entry = addState(SPLIT, compile(branches.get(i), next, sets), entry, sets, null);
+            }
+            return entry;
+        }
+        if (node instanceof RegexNode.Group) {
+            final RegexNode.Group group = (RegexNode.Group) node;
+            if (group.kind != RegexNode.Group.Kind.CAPTURE && group.kind != RegexNode.Group.Kind.NON_CAPTURE) {
+                throw new UnsupportedSyntax();
+            }
+            return compile(group.body, next, sets);
+        }
+        if (node instanceof RegexNode.Repeat) {
+            final RegexNode.Repeat repeat = (RegexNode.Repeat) node;
+            if (repeat.possessive) {
+                throw new UnsupportedSyntax();
+            }
+            int entry;
+            if (repeat.isUnbounded()) {
+                final int loop = addState(SPLIT, -1, next, sets, null);
+                final int body = compile(repeat.body, loop, sets);
+                out[loop] = body;
+                entry = loop;
+            } else {
+                entry = next;
+                for (int i = repeat.min; i < repeat.max; i++) {
+                    entry = addState(SPLIT, compile(repeat.body, entry, sets), next, sets, null);
+                }
+            }
+            for (int i = 0; i < repeat.min; i++) {
+                entry = compile(repeat.body, entry, sets);
+            }
+            return entry;
+        }
+        if (node instanceof RegexNode.Assertion) {
+            switch (((RegexNode.Assertion) node).kind) {
+                case BEGIN_INPUT:
+                case LAST_MATCH_END:
+                    return addState(BEGIN, next, -1, sets, null);
+                case END_INPUT_BEFORE_TERMINATOR:
+                    endsBeforeTerminator = true;
+                    return addState(END, next, -1, sets, null);
+                case END_INPUT:
+                    return addState(END, next, -1, sets, null);
+                default:
+                    throw new UnsupportedSyntax();
+            }
+        }
+        throw new UnsupportedSyntax();
+    }
+
+    // lazy DFA
+
+    static final class DState {
+        final int[] states;
+        final boolean acceptsAtEnd;
+        final DState[] next;
+
+        DState(int[] states, boolean acceptsAtEnd, int classCount) {
+            this.states = states;
+            this.acceptsAtEnd = acceptsAtEnd;
+            this.next = new DState[classCount];
+        }
+    }
+
+    private static final class StateKey {
+        final int[] states;
+        final int hash;
+
+        StateKey(int[] states) {
+            this.states = states;
+            this.hash = Arrays.hashCode(states);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StateKey && Arrays.equals(states, ((StateKey) o).states);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private synchronized DState transition(DState from, int cls) {
+        DState cached = from.next[cls];
+        if (cached != null) {
+            return cached;
+        }
+        final int[] seeds = new int[from.states.length];
+        int count = 0;
+        for (int s : from.states) {
+            if (kind[s] == CHAR && (classes[s][cls >>> 6] & (1L << cls)) != 0) {
+                seeds[count++] = out[s];
+            }
+        }
+        final DState next;
+        if (count == 0) {
+            next = deadState;
+        } else {
+            final int[] set = closure(seeds, count, false);
+            final StateKey key = new StateKey(set);
+            final DState known = dfa.get(key);
+            if (known != null) {
+                next = known;
+            } else {
+                final DState created = new DState(set, acceptsAtEnd(set, false), boundaries.length);
+                if (dfa.size() >= MAX_DFA_STATES) {
+                    // stop caching, the match stays linear but rebuilds the states it visits
+                    return created;
+                }
+                dfa.put(key, created);
+                next = created;
+            }
+        }
+        from.next[cls] = next;
+        return next;
+    }
+
+    /**
+     * @return sorted CHAR, END and MATCH states reachable from the seeds without consuming input
+     */
+    private int[] closure(int[] seeds, int count, boolean atStart) {
+        final boolean[] seen = new boolean[stateCount];
+        final int[] stack = new int[stateCount * 2 + count];
+        final int[] result = new int[stateCount];
+        int top = 0;
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            stack[top++] = seeds[i];
+        }
+        while (top > 0) {
+            final int s = stack[--top];
+            if (seen[s]) {
+                continue;
+            }
+            seen[s] = true;
+            switch (kind[s]) {
+                case SPLIT:
+                    stack[top++] = out2[s];
+                    stack[top++] = out[s];
+                    break;
+                case BEGIN:
+                    if (atStart) {
+                        stack[top++] = out[s];
+                    }
+                    break;
+                default:
+                    result[size++] = s;
+            }
+        }
+        final int[] sorted = Arrays.copyOf(result, size);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private boolean acceptsAtEnd(int[] set, boolean atStart) {
+        final boolean[] seen = new boolean[stateCount];
+        final int[] stack = new int[stateCount * 2 + set.length];
+        int top = 0;
+        for (int s : set) {
+            stack[top++] = s;
+        }
+        while (top > 0) {
+            final int s = stack[--top];
+            if (seen[s]) {
+                continue;
+            }
+            seen[s] = true;
+            switch (kind[s]) {
+                case MATCH:
+                    return true;
+                case SPLIT:
+                    stack[top++] = out2[s];
+                    stack[top++] = out[s];
+                    break;
+                case END:
+                    stack[top++] = out[s];
+                    break;
+                case BEGIN:
+                    if (atStart) {
+                        stack[top++] = out[s];
+                    }
+                    break;
+                default:
+            }
+        }
+        return false;
+    }
+}
@@ -1,5 +1,6 @@
 package io.zeko.validation;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +33,28 @@ public class NoteFirstValidator {
         return new PreConditionString(validator);
     }
 
+    /**
+     * Starts a type {@link String} validation rule for a field looked up from a {@link FieldSource}.
+     *
+     * @param source    source the value is fetched from
+     * @param fieldName identifier for this validation rule and field ID in the source
+     * @param note      notification object where the messages with the identifier are gathered
+     * @return {@link PreConditionString} for defining the first predicate
+     */
+    public static PreConditionString valid(FieldSource source, String fieldName, Note note) {
+        ValidationEngineString validator = new ValidationEngineString(fieldName, source.get(fieldName), note);
+        validator.setFailOnFirst(true);
+        return new PreConditionString(validator);
+    }
+
+    /**
+     * Same as {@link #valid(FieldSource, String, Note)} but the value is fetched with {@link FieldSource#getChars},
+     * letting buffer backed sources skip the String copy.
+     */
+    public static PreConditionCharSequence validChars(FieldSource source, String fieldName, Note note) {
+        return valid(source.getChars(fieldName), fieldName, note);
+    }
+
     /**
      * Starts a type {@link String} validation rule with {@link List} note.
      *
@@ -45,6 +68,86 @@ public class NoteFirstValidator {
         return new PreConditionString(validator);
     }
 
+    /**
+     * Starts a type {@link CharSequence} validation rule with {@link Note} note. The value is validated in place,
+     * e.g. a {@link java.nio.CharBuffer} view over a request buffer, without being copied into a {@link String}.
+     *
+     * @param value     value being validated
+     * @param fieldName identifier for this validation rule
+     * @param note      notification object where the messages with the identifier are gathered
+     * @return {@link PreConditionCharSequence} for defining the first predicate
+     */
+    public static PreConditionCharSequence valid(CharSequence value, String fieldName, Note note) {
+        ValidationEngineCharSequence validator = new ValidationEngineCharSequence(fieldName, value, note);
+        validator.setFailOnFirst(true);
+        return new PreConditionCharSequence(validator);
+    }
+
+    /**
+     * Starts a type {@link CharSequence} validation rule with {@link List} note.
+     *
+     * @param value value being validated
+     * @param note  notification object where the messages are gathered
+     * @return {@link PreConditionCharSequence} for defining the first predicate
+     */
+    public static PreConditionCharSequence valid(CharSequence value, List<String> note) {
+        ValidationEngineCharSequence validator = new ValidationEngineCharSequence(value, note);
+        validator.setFailOnFirst(true);
+        return new PreConditionCharSequence(validator);
+    }
+
+    /**
+     * Starts a validation rule over a range of UTF-8 encoded bytes with {@link Note} note.
+     *
+     * @param value     bytes holding the value being validated
+     * @param offset    index of the first byte of the value
+     * @param length    number of bytes of the value
+     * @param fieldName identifier for this validation rule
+     * @param note      notification object where the messages with the identifier are gathered
+     * @return {@link PreConditionCharSequence} for defining the first predicate
+     */
+    public static PreConditionCharSequence valid(byte[] value, int offset, int length, String fieldName, Note note) {
+        ByteValidationEngine validator = new ByteValidationEngine(fieldName, value, offset, length, note);
+        validator.setFailOnFirst(true);
+        return new PreConditionCharSequence(validator);
+    }
+
+    /**
+     * Starts a validation rule over the remaining UTF-8 encoded bytes of a buffer with {@link Note} note.
+     *
+     * @param value     buffer holding the value being validated
+     * @param fieldName identifier for this validation rule
+     * @param note      notification object where the messages with the identifier are gathered
+     * @return {@link PreConditionCharSequence} for defining the first predicate
+     */
+    public static PreConditionCharSequence valid(ByteBuffer value, String fieldName, Note note) {
+        ByteValidationEngine validator = new ByteValidationEngine(fieldName, value, note);
+        validator.setFailOnFirst(true);
+        return new PreConditionCharSequence(validator);
+    }
+
+    /**
+     * Starts a validation rule for a multi-valued parameter with {@link Note} note.
+     *
+     * @param values    values being validated
+     * @param fieldName identifier for this validation rule
+     * @param note      notification object where the messages with the identifier are gathered
+     * @return {@link PreConditionList} for defining the first predicate
+     */
+    public static PreConditionList validList(List<String> values, String fieldName, Note note) {
+        ValidationEngineList validator = new ValidationEngineList(fieldName, values, note);
+        validator.setFailOnFirst(true);
+        return new PreConditionList(validator);
+    }
+
+    public static PreConditionList validList(Map<String, List<String>> map, String fieldName, Note note) {
+        return validList(map.get(fieldName), fieldName, note);
+    }
+
+    public static PreConditionList validList(FieldSource source, String fieldName, Note note) {
+        return validList(source.getAll(fieldName), fieldName, note);
+    }
+
     /**
      * Starts a type {@link Integer} validation rule with {@link Note} note.
      *
@@ -99,4 +202,16 @@ public class NoteFirstValidator {
         return new PreCondition<>(validationEngine);
     }
 
+    /**
+     * Starts a type {@link T} validation rule with asynchronous rules and {@link Note} note.
+     *
+     * @param value     value being validated
+     * @param fieldName identifier for this validation rule
+     * @param note      notification object where the messages with the identifier are gathered
+     * @return {@link AsyncValidationEngine} for defining the predicates
+     */
+    public static <T> AsyncValidationEngine<T> validAsync(T value, String fieldName, Note note) {
+        return new AsyncValidationEngine<>(fieldName, value, note, true);
+    }
+
 }
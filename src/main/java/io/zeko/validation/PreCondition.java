@@ -66,6 +66,17 @@ public class PreCondition<T, FV extends ValidationEngine> {
         return this;
     }
 
+    /**
+     * Bounds the time and the characters the rules may spend on the value, see {@link ValidationEngine#withBudget}.
+     *
+     * @param budget budget of this field
+     * @return validation engine
+     */
+    public PreCondition<T, ? extends ValidationEngine> withBudget(ValidationBudget budget) {
+        this.validationEngine.withBudget(budget);
+        return this;
+    }
+
     /**
      * Evaluate the provided Then predicate(s) if the given boolean value is true. Note that using the when() -condition
      * as the first step, all the predicates will be executed using {@link ValidationEngine#mustFatally} method.
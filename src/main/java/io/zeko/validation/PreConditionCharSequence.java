@@ -0,0 +1,81 @@
+package io.zeko.validation;
+
+import java.util.function.Predicate;
+
+import static java.util.Objects.nonNull;
+
+public class PreConditionCharSequence extends PreCondition<CharSequence, ValidationEngineCharSequence> {
+
+    public PreConditionCharSequence(ValidationEngine<CharSequence, ValidationEngineCharSequence> validationEngine) {
+        super(validationEngine);
+    }
+
+    /**
+     * Set a blank value to be considered as a validation error.
+     *
+     * @param message error message
+     * @return validation engine
+     */
+    public ValidationEngineCharSequence mustNotBeBlank(String message) {
+        this.validationEngine.setNullIsValid(false);
+        this.validationEngine.mustFatally((s) -> !RuleSet.isBlank(s), message, "mustNotBeBlank");
+        return (ValidationEngineCharSequence) this.validationEngine;
+    }
+
+    public ValidationEngineCharSequence mustNotBeBlank() {
+        return mustNotBeBlank(null);
+    }
+
+    @Override
+    public ValidationEngineCharSequence mustNotBeNull(String message) {
+        return (ValidationEngineCharSequence) super.mustNotBeNull(message);
+    }
+
+    @Override
+    public ValidationEngineCharSequence required(String message) {
+        this.validationEngine.setNullIsValid(false);
+        Predicate<CharSequence> p = (s) -> nonNull(s) && !RuleSet.isBlank(s) && !RuleSet.isTrimmedEmptyString(s);
+        this.validationEngine.mustFatally(p, message, "required");
+        return (ValidationEngineCharSequence) this.validationEngine;
+    }
+
+    public ValidationEngineCharSequence required() {
+        return required(null);
+    }
+
+    public ValidationEngineCharSequence requiredLoose(String message) {
+        this.validationEngine.setNullIsValid(false);
+        Predicate<CharSequence> p = (s) -> nonNull(s) && !RuleSet.isBlank(s);
+        this.validationEngine.mustFatally(p, message, "requiredLoose");
+        return (ValidationEngineCharSequence) this.validationEngine;
+    }
+
+    public ValidationEngineCharSequence requiredLoose() {
+        return requiredLoose(null);
+    }
+
+    @Override
+    public ValidationEngineCharSequence mustNotBeNullWhen(boolean value, String message) {
+        return (ValidationEngineCharSequence) super.mustNotBeNullWhen(value, message);
+    }
+
+    @Override
+    public ValidationEngineCharSequence canBeNull() {
+        return (ValidationEngineCharSequence) super.canBeNull();
+    }
+
+    public ValidationEngineCharSequence optional() {
+        this.validationEngine.setNullIsValid(true);
+        return (ValidationEngineCharSequence) this.validationEngine;
+    }
+
+    @Override
+    public PreConditionCharSequence validateWhen(boolean validate) {
+        return (PreConditionCharSequence) super.validateWhen(validate);
+    }
+
+    @Override
+    public PreConditionCharSequence withBudget(ValidationBudget budget) {
+        return (PreConditionCharSequence) super.withBudget(budget);
+    }
+}
@@ -0,0 +1,56 @@
+package io.zeko.validation;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static java.util.Objects.nonNull;
+
+public class PreConditionList extends PreCondition<List<String>, ValidationEngineList> {
+
+    public PreConditionList(ValidationEngine<List<String>, ValidationEngineList> validationEngine) {
+        super(validationEngine);
+    }
+
+    @Override
+    public ValidationEngineList mustNotBeNull(String message) {
+        return (ValidationEngineList) super.mustNotBeNull(message);
+    }
+
+    /**
+     * Set a missing or empty list of values to be considered as a validation error.
+     *
+     * @param message error message
+     * @return validation engine
+     */
+    @Override
+    public ValidationEngineList required(String message) {
+        this.validationEngine.setNullIsValid(false);
+        Predicate<List<String>> p = (l) -> nonNull(l) && !l.isEmpty();
+        this.validationEngine.mustFatally(p, message, "required");
+        return (ValidationEngineList) this.validationEngine;
+    }
+
+    public ValidationEngineList required() {
+        return required(null);
+    }
+
+    @Override
+    public ValidationEngineList mustNotBeNullWhen(boolean value, String message) {
+        return (ValidationEngineList) super.mustNotBeNullWhen(value, message);
+    }
+
+    @Override
+    public ValidationEngineList canBeNull() {
+        return (ValidationEngineList) super.canBeNull();
+    }
+
+    public ValidationEngineList optional() {
+        this.validationEngine.setNullIsValid(true);
+        return (ValidationEngineList) this.validationEngine;
+    }
+
+    @Override
+    public PreConditionList validateWhen(boolean validate) {
+        return (PreConditionList) super.validateWhen(validate);
+    }
+}
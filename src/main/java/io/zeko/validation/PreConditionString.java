@@ -80,4 +80,9 @@ public class PreConditionString extends PreCondition<String, ValidationEngineStr
     public PreConditionString validateWhen(boolean validate) {
         return (PreConditionString) super.validateWhen(validate);
     }
+
+    @Override
+    public PreConditionString withBudget(ValidationBudget budget) {
+        return (PreConditionString) super.withBudget(budget);
+    }
 }
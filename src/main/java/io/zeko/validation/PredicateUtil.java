@@ -1,7 +1,6 @@
 package io.zeko.validation;
 
 import org.apache.commons.lang3.math.NumberUtils;
-import org.apache.commons.validator.routines.UrlValidator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -186,16 +185,11 @@ public class PredicateUtil {
     }
 
     public static Predicate<String> email() {
-        return (s) -> s.indexOf("--") == -1 &&
-                s.indexOf("-.") == -1 &&
-                s.matches("^([\\w\\!\\#$\\%\\&'\\*\\+\\-\\/\\=\\?\\^\\`{\\|\\}\\~]+\\.)*[\\w\\!\\#$\\%\\&'\\*\\+\\-\\/\\=\\?\\^\\`{\\|\\}\\~\\_]+@((((([a-z0-9]{1}[a-z0-9\\-]{0,62}[a-z0-9]{1})|[a-z])\\.)+[a-z]{2,6})|(\\d{1,3}\\.){3}\\d{1,3}(\\:\\d{1,5})?)$");
+        return (s) -> EmailParser.isValid(s);
     }
 
     public static Predicate<String> url(String[] schemes) {
-        return (s) -> {
-            final UrlValidator urlValidator = new UrlValidator(schemes);
-            return urlValidator.isValid(s);
-        };
+        return (s) -> UrlParser.isValid(s, schemes);
     }
 
     public static Predicate<String> url() {
@@ -203,7 +197,7 @@ public class PredicateUtil {
     }
 
     public static Predicate<String> ipv4() {
-        return (s) -> s.matches("^(([1-9]?[0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5]).){3}([1-9]?[0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])$");
+        return (s) -> IpParser.isIpv4(s);
     }
 
     /**
@@ -212,7 +206,7 @@ public class PredicateUtil {
      * @return
      */
     public static Predicate<String> hostName() {
-        return (s) -> s.matches("^(?=.{1,255}$)[0-9A-Za-z](?:(?:[0-9A-Za-z]|\\b-){0,61}[0-9A-Za-z])?(?:\\.[0-9A-Za-z](?:(?:[0-9A-Za-z]|\\b-){0,61}[0-9A-Za-z])?)*\\.?$");
+        return HostName::isHostName;
     }
 
     /**
@@ -221,7 +215,7 @@ public class PredicateUtil {
      * @return
      */
     public static Predicate<String> serverName() {
-        return (s) -> s.matches("^[A-Za-z](?:(?:[0-9A-Za-z]|\\b-){0,61}[0-9A-Za-z])?(?:\\.[0-9A-Za-z](?:(?:[0-9A-Za-z]|\\b-){0,61}[0-9A-Za-z])?)*$");
+        return HostName::isServerName;
     }
 
     /**
@@ -230,8 +224,7 @@ public class PredicateUtil {
      * @return
      */
     public static Predicate<String> subdomain(int allowLevels) {
-        final int levels = allowLevels + 2;
-        return (s) -> s.matches("^[a-zA-Z0-9\\-]+(\\.[a-zA-Z0-9\\-]+){2," + levels + "}$");
+        return (s) -> HostName.isSubdomain(s, allowLevels);
     }
 
     public static Predicate<String> subdomain() {
@@ -239,7 +232,7 @@ public class PredicateUtil {
     }
 
     public static Predicate<String> domain() {
-        return (s) -> s.matches("^[a-z0-9]+([\\-\\.]{1}[a-z0-9]+)*\\.[a-z]{2,6}$");
+        return (s) -> HostName.isDomain(s, false);
     }
 
     /**
@@ -251,6 +244,52 @@ public class PredicateUtil {
         return (s) -> s.matches("^#([0-9a-fA-F]{1,2}){3}$");
     }
 
+    public static Predicate<String> uuid() {
+        return TokenFormat::isUuid;
+    }
+
+    public static Predicate<String> uuid(int version) {
+        return (s) -> TokenFormat.isUuid(s, version);
+    }
+
+    public static Predicate<String> hex() {
+        return TokenFormat::isHex;
+    }
+
+    public static Predicate<String> hex(int length) {
+        return (s) -> TokenFormat.isHex(s, length);
+    }
+
+    public static Predicate<String> base64() {
+        return TokenFormat::isBase64;
+    }
+
+    public static Predicate<String> base64Url() {
+        return TokenFormat::isBase64Url;
+    }
+
+    public static Predicate<String> ulid() {
+        return TokenFormat::isUlid;
+    }
+
+    public static Predicate<String> epochSeconds() {
+        return EpochTime::isEpochSeconds;
+    }
+
+    public static Predicate<String> epochMillis() {
+        return EpochTime::isEpochMillis;
+    }
+
+    public static Predicate<String> withinPast(String window, String format) {
+        final long windowMillis = EpochTime.parseWindow(window);
+        return (s) -> RuleSet.withinPast(s, windowMillis, format);
+    }
+
+    public static Predicate<String> withinNext(String window, String format) {
+        final long windowMillis = EpochTime.parseWindow(window);
+        return (s) -> RuleSet.withinNext(s, windowMillis, format);
+    }
+
     public static Predicate<String> isNumber() {
         return (s) -> NumberUtils.isParsable(s);
     }
@@ -0,0 +1,453 @@
+package io.zeko.validation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Static analysis of regular expressions for catastrophic backtracking (ReDoS).
+ * <p>
+ * The expression is parsed and its repetitions are inspected for the shapes that make a backtracking matcher try
+ * an exponential number of ways to split the input before failing: a repetition nested in another one that can run
+ * into the next iteration, and a repeated alternation that can split the same text into iterations in two ways, such
+ * as (a|aa)+. Branches that only share a prefix, such as (ab|a)*, split every text one way and are not reported. Two
+ * overlapping repetitions in a row are reported as polynomial. Atomic groups and possessive quantifiers do not
+ * backtrack and are not reported.
+ * <p>
+ * The analysis is a heuristic over the character sets of the expression. It can report an expression that a
+ * particular input never triggers, but the shapes it does not report only backtrack polynomially.
+ * <p>
+ * RegexReport report = RegexAnalyzer.analyze(tenantPattern);<br>
+ * if (report.isCatastrophic()) { reject(report.getFindings()); }<br>
+ */
+public final class RegexAnalyzer {
+    /**
+     * Bounded repetitions from this count on are treated like unbounded ones.
+     */
+    static final int LARGE_REPEAT = 10;
+    /**
+     * Limits of the expansion of a repeated body into fixed-length words, past them the overlap of its branches is
+     * only reported as possible.
+     */
+    static final int MAX_WORDS = 256;
+    static final int MAX_WORD_CHARS = 8192;
+
+    private final String regex;
+    private final List<RegexReport.Finding> findings = new ArrayList<>();
+
+    private RegexAnalyzer(String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * @param regex expression in {@link Pattern} syntax
+     * @return findings of the expression
+     */
+    public static RegexReport analyze(String regex) {
+        final RegexAnalyzer analyzer = new RegexAnalyzer(regex);
+        final RegexParser parser;
+        try {
+            parser = RegexParser.parse(regex);
+        } catch (PatternSyntaxException err) {
+            final int index = Math.max(0, Math.min(err.getIndex(), regex.length()));
+            analyzer.findings.add(new RegexReport.Finding(RegexReport.Issue.INVALID_SYNTAX, regex, index, regex.length(), err.getDescription()));
+            return new RegexReport(regex, analyzer.findings, true);
+        }
+        analyzer.visit(parser.getRoot(), false);
+        return new RegexReport(regex, analyzer.findings, parser.isExact());
+    }
+
+    private void visit(RegexNode node, boolean atomic) {
+        if (node instanceof RegexNode.Repeat) {
+            final RegexNode.Repeat repeat = (RegexNode.Repeat) node;
+            final boolean backtracks = !atomic && !repeat.possessive;
+            if (backtracks && (repeat.isUnbounded() || repeat.max > 1)) {
+                checkNested(repeat);
+            }
+            if (backtracks && isLarge(repeat)) {
+                checkIterations(repeat);
+            }
+            visit(repeat.body, atomic || repeat.possessive);
+        } else if (node instanceof RegexNode.Group) {
+            final RegexNode.Group group = (RegexNode.Group) node;
+            visit(group.body, atomic || group.kind == RegexNode.Group.Kind.ATOMIC);
+        } else if (node instanceof RegexNode.Sequence) {
+            final List<RegexNode> items = ((RegexNode.Sequence) node).items;
+            for (RegexNode item : items) {
+                visit(item, atomic);
+            }
+            if (!atomic) {
+                checkAdjacent(items);
+            }
+        } else if (node instanceof RegexNode.Alternation) {
+            for (RegexNode branch : ((RegexNode.Alternation) node).branches) {
+                visit(branch, atomic);
+            }
+        }
+    }
+
+    private static boolean isLarge(RegexNode.Repeat repeat) {
+        return repeat.isUnbounded() || repeat.max >= LARGE_REPEAT;
+    }
+
+    /**
+     * Reports the outer repetition when an inner one can swallow what follows it in the body and the start of the
+     * next iteration, so every split of a run of characters between the iterations is a different path.
+     */
+    private void checkNested(RegexNode.Repeat outer) {
+        final RegexNode.Repeat inner = findAmbiguousInner(outer.body, Collections.emptyList(), outer.body.first());
+        if (inner != null) {
+            findings.add(new RegexReport.Finding(RegexReport.Issue.NESTED_QUANTIFIER, regex, outer.start, outer.end,
+                    "repetition '" + regex.substring(inner.start, inner.end) + "' inside a repeated group can also match the next iteration"));
+        }
+    }
+
+    private RegexNode.Repeat findAmbiguousInner(RegexNode node, List<RegexNode> continuation, CharRanges nextIteration) {
+        if (node instanceof RegexNode.Sequence) {
+            final List<RegexNode> items = ((RegexNode.Sequence) node).items;
+            for (int i = 0; i < items.size(); i++) {
+                final List<RegexNode> rest = new ArrayList<>(items.subList(i + 1, items.size()));
+                rest.addAll(continuation);
+                final RegexNode.Repeat found = findAmbiguousInner(items.get(i), rest, nextIteration);
+                if (found != null) {
+                    return found;
+                }
+            }
+        } else if (node instanceof RegexNode.Alternation) {
+            for (RegexNode branch : ((RegexNode.Alternation) node).branches) {
+                final RegexNode.Repeat found = findAmbiguousInner(branch, continuation, nextIteration);
+                if (found != null) {
+                    return found;
+                }
+            }
+        } else if (node instanceof RegexNode.Group) {
+            final RegexNode.Group group = (RegexNode.Group) node;
+            if (group.kind == RegexNode.Group.Kind.CAPTURE || group.kind == RegexNode.Group.Kind.NON_CAPTURE) {
+                return findAmbiguousInner(group.body, continuation, nextIteration);
+            }
+        } else if (node instanceof RegexNode.Repeat) {
+            final RegexNode.Repeat repeat = (RegexNode.Repeat) node;
+            if (repeat.possessive) {
+                return null;
+            }
+            final CharRanges swallowed = repeat.body.chars();
+            if (isLarge(repeat) && canAbsorb(swallowed, continuation) && swallowed.intersects(nextIteration)) {
+                return repeat;
+            }
+            return findAmbiguousInner(repeat.body, continuation, nextIteration);
+        }
+        return null;
+    }
+
+    /**
+     * @return true when every node after the inner repetition can be skipped or can match chars it swallows, so a run
+     * of them can be split between the two; . or [^x] after [a-z]+ take part of the run without holding all of it
+     */
+    private static boolean canAbsorb(CharRanges set, List<RegexNode> nodes) {
+        for (RegexNode node : nodes) {
+            if (!node.isNullable() && !set.intersects(node.chars())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reports a repetition whose body can split one text into iterations in two ways, so a backtracking matcher tries
+     * 2^n splits of n such texts. When the body is a finite set of fixed-length words the check is exact, otherwise
+     * its alternations are checked with the char sets of the branches and reported as possible overlaps.
+     */
+    private void checkIterations(RegexNode.Repeat repeat) {
+        final List<Word> words = expand(repeat.body);
+        if (words == null) {
+            checkAlternation(repeat, repeat.body);
+            return;
+        }
+        final Word[] ambiguous = findAmbiguousSplit(words);
+        if (ambiguous == null) {
+            return;
+        }
+        final Word a = ambiguous[0];
+        final Word b = ambiguous[1];
+        for (int i = 0; i < Math.min(a.branches.size(), b.branches.size()); i++) {
+            final RegexNode branchA = a.branches.get(i);
+            final RegexNode branchB = b.branches.get(i);
+            if (branchA != branchB) {
+                final RegexNode first = branchA.start < branchB.start ? branchA : branchB;
+                final RegexNode second = first == branchA ? branchB : branchA;
+                findings.add(new RegexReport.Finding(RegexReport.Issue.OVERLAPPING_ALTERNATION, regex, first.start, second.end,
+                        "branches '" + regex.substring(first.start, first.end) + "' and '" + regex.substring(second.start, second.end)
+                                + "' can match the same text inside '" + regex.substring(repeat.start, repeat.end) + "'"));
+                return;
+            }
+        }
+        findings.add(new RegexReport.Finding(RegexReport.Issue.OVERLAPPING_ALTERNATION, regex, repeat.start, repeat.end,
+                "'" + regex.substring(repeat.body.start, repeat.body.end) + "' can split the same text into iterations in more than one way"));
+    }
+
+    /**
+     * Fixed-length text matched by the body of a repetition: one char set per position, and the alternation branches
+     * taken to match it.
+     */
+    private static final class Word {
+        static final Word EMPTY = new Word(new CharRanges[0], Collections.emptyList());
+
+        final CharRanges[] chars;
+        final List<RegexNode> branches;
+
+        Word(CharRanges[] chars, List<RegexNode> branches) {
+            this.chars = chars;
+            this.branches = branches;
+        }
+
+        Word concat(Word other) {
+            final CharRanges[] joined = Arrays.copyOf(chars, chars.length + other.chars.length);
+            System.arraycopy(other.chars, 0, joined, chars.length, other.chars.length);
+            final List<RegexNode> taken = new ArrayList<>(branches);
+            taken.addAll(other.branches);
+            return new Word(joined, taken);
+        }
+    }
+
+    /**
+     * @return every word the node can match, null when there are unbounded repetitions, constructs that are not
+     * modelled or more words than the limits
+     */
+    private static List<Word> expand(RegexNode node) {
+        if (node instanceof RegexNode.Chars) {
+            return Collections.singletonList(new Word(new CharRanges[]{((RegexNode.Chars) node).set}, Collections.emptyList()));
+        } else if (node instanceof RegexNode.Assertion) {
+            return Collections.singletonList(Word.EMPTY);
+        } else if (node instanceof RegexNode.Group) {
+            final RegexNode.Group group = (RegexNode.Group) node;
+            if (group.kind == RegexNode.Group.Kind.CAPTURE || group.kind == RegexNode.Group.Kind.NON_CAPTURE) {
+                return expand(group.body);
+            }
+        } else if (node instanceof RegexNode.Sequence) {
+            List<Word> words = Collections.singletonList(Word.EMPTY);
+            for (RegexNode item : ((RegexNode.Sequence) node).items) {
+                final List<Word> next = expand(item);
+                words = next == null ? null : concat(words, next);
+                if (words == null) {
+                    return null;
+                }
+            }
+            return words;
+        } else if (node instanceof RegexNode.Alternation) {
+            final List<Word> words = new ArrayList<>();
+            for (RegexNode branch : ((RegexNode.Alternation) node).branches) {
+                final List<Word> branchWords = expand(branch);
+                if (branchWords == null || words.size() + branchWords.size() > MAX_WORDS) {
+                    return null;
+                }
+                for (Word word : branchWords) {
+                    final List<RegexNode> taken = new ArrayList<>(word.branches.size() + 1);
+                    taken.add(branch);
+                    taken.addAll(word.branches);
+                    words.add(new Word(word.chars, taken));
+                }
+            }
+            return words;
+        } else if (node instanceof RegexNode.Repeat) {
+            final RegexNode.Repeat repeat = (RegexNode.Repeat) node;
+            final List<Word> body = repeat.isUnbounded() || repeat.possessive ? null : expand(repeat.body);
+            if (body == null) {
+                return null;
+            }
+            final List<Word> words = new ArrayList<>();
+            List<Word> power = Collections.singletonList(Word.EMPTY);
+            for (int count = 0; count <= repeat.max; count++) {
+                if (count >= repeat.min) {
+                    words.addAll(power);
+                }
+                if (words.size() > MAX_WORDS) {
+                    return null;
+                }
+                if (count < repeat.max) {
+                    power = concat(power, body);
+                    if (power == null) {
+                        return null;
+                    }
+                }
+            }
+            return words;
+        }
+        return null;
+    }
+
+    private static List<Word> concat(List<Word> heads, List<Word> tails) {
+        if ((long) heads.size() * tails.size() > MAX_WORDS) {
+            return null;
+        }
+        final List<Word> words = new ArrayList<>(heads.size() * tails.size());
+        int length = 0;
+        for (Word head : heads) {
+            for (Word tail : tails) {
+                final Word word = head.concat(tail);
+                length += word.chars.length;
+                if (length > MAX_WORD_CHARS) {
+                    return null;
+                }
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Searches for a text that splits into iterations of the words in two ways, as in the Sardinas-Patterson test. A
+     * state is a position inside a word where one split is while the other one is at the end of an iteration; from
+     * there the other split starts any word and both read the same chars until one of them ends.
+     *
+     * @return the first words of the two splits, null when every text splits one way
+     */
+    private static Word[] findAmbiguousSplit(List<Word> all) {
+        final List<Word> words = new ArrayList<>();
+        for (Word word : all) {
+            // an empty iteration does not split the text, the matcher stops a repetition that matches nothing
+            if (word.chars.length > 0) {
+                words.add(word);
+            }
+        }
+        final int[] offsets = new int[words.size() + 1];
+        for (int w = 0; w < words.size(); w++) {
+            offsets[w + 1] = offsets[w] + words.get(w).chars.length;
+        }
+        final boolean[] visited = new boolean[offsets[words.size()]];
+        // pending states as word and position, with the first words of the two splits that led there
+        final ArrayDeque<int[]> pending = new ArrayDeque<>();
+
+        for (int i = 0; i < words.size(); i++) {
+            for (int j = i + 1; j < words.size(); j++) {
+                final int[] next = advance(words, i, 0, j, 0);
+                if (next == BOTH_END) {
+                    return new Word[]{words.get(i), words.get(j)};
+                }
+                if (next != null && !visited[offsets[next[0]] + next[1]]) {
+                    visited[offsets[next[0]] + next[1]] = true;
+                    pending.add(new int[]{next[0], next[1], i, j});
+                }
+            }
+        }
+        while (!pending.isEmpty()) {
+            final int[] state = pending.poll();
+            for (int k = 0; k < words.size(); k++) {
+                final int[] next = advance(words, state[0], state[1], k, 0);
+                if (next == BOTH_END) {
+                    return new Word[]{words.get(state[2]), words.get(state[3])};
+                }
+                if (next != null && !visited[offsets[next[0]] + next[1]]) {
+                    visited[offsets[next[0]] + next[1]] = true;
+                    pending.add(new int[]{next[0], next[1], state[2], state[3]});
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final int[] BOTH_END = new int[0];
+
+    /**
+     * Reads word a from position pa and word b from position pb side by side while a char can match both.
+     *
+     * @return BOTH_END when they end together, the word and position of the one that goes on, null when no char
+     * matches both
+     */
+    private static int[] advance(List<Word> words, int a, int pa, int b, int pb) {
+        final CharRanges[] charsA = words.get(a).chars;
+        final CharRanges[] charsB = words.get(b).chars;
+        while (pa < charsA.length && pb < charsB.length) {
+            if (!charsA[pa].intersects(charsB[pb])) {
+                return null;
+            }
+            pa++;
+            pb++;
+        }
+        if (pa == charsA.length && pb == charsB.length) {
+            return BOTH_END;
+        }
+        return pa == charsA.length ? new int[]{b, pb} : new int[]{a, pa};
+    }
+
+    /**
+     * Reports a repeated alternation with two branches that start alike and where one can match the text of the other,
+     * for a body that cannot be expanded into words. The branches may still split every text one way, so this is a
+     * warning.
+     */
+    private void checkAlternation(RegexNode.Repeat repeat, RegexNode node) {
+        if (node instanceof RegexNode.Group) {
+            final RegexNode.Group group = (RegexNode.Group) node;
+            if (group.kind == RegexNode.Group.Kind.CAPTURE || group.kind == RegexNode.Group.Kind.NON_CAPTURE) {
+                checkAlternation(repeat, group.body);
+            }
+        } else if (node instanceof RegexNode.Sequence) {
+            for (RegexNode item : ((RegexNode.Sequence) node).items) {
+                checkAlternation(repeat, item);
+            }
+        } else if (node instanceof RegexNode.Alternation) {
+            final List<RegexNode> branches = ((RegexNode.Alternation) node).branches;
+            for (int i = 0; i < branches.size(); i++) {
+                for (int j = i + 1; j < branches.size(); j++) {
+                    final RegexNode a = branches.get(i);
+                    final RegexNode b = branches.get(j);
+                    if (a.first().intersects(b.first()) && (a.chars().containsAll(b.chars()) || b.chars().containsAll(a.chars()))) {
+                        findings.add(new RegexReport.Finding(RegexReport.Issue.POSSIBLE_OVERLAPPING_ALTERNATION, regex, node.start, node.end,
+                                "branches '" + regex.substring(a.start, a.end) + "' and '" + regex.substring(b.start, b.end)
+                                        + "' start alike inside '" + regex.substring(repeat.start, repeat.end) + "' and may match the same text"));
+                        return;
+                    }
+                }
+            }
+            for (RegexNode branch : branches) {
+                checkAlternation(repeat, branch);
+            }
+        }
+    }
+
+    /**
+     * Reports two unbounded repetitions of one sequence that can trade characters, when the rest of the expression can
+     * still fail after them.
+     */
+    private void checkAdjacent(List<RegexNode> items) {
+        for (int i = 0; i < items.size(); i++) {
+            if (!isBacktrackingLoop(items.get(i))) {
+                continue;
+            }
+            final CharRanges first = ((RegexNode.Repeat) items.get(i)).body.chars();
+            for (int j = i + 1; j < items.size(); j++) {
+                final RegexNode between = items.get(j);
+                if (isBacktrackingLoop(between)) {
+                    final CharRanges second = ((RegexNode.Repeat) between).body.chars();
+                    final List<RegexNode> rest = items.subList(j + 1, items.size());
+                    final boolean alwaysCompletes = canAbsorb(CharRanges.EMPTY, rest)
+                            && (second.containsAll(first) || endsWithLoopOver(rest, first.union(second)));
+                    if (first.intersects(second) && !alwaysCompletes) {
+                        findings.add(new RegexReport.Finding(RegexReport.Issue.ADJACENT_QUANTIFIERS, regex,
+                                items.get(i).start, between.end, "consecutive repetitions can match the same characters"));
+                        return;
+                    }
+                }
+                if (!between.isNullable() && !first.containsAll(between.chars())) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static boolean endsWithLoopOver(List<RegexNode> rest, CharRanges set) {
+        for (RegexNode node : rest) {
+            if (isBacktrackingLoop(node) && node.chars().containsAll(set)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isBacktrackingLoop(RegexNode node) {
+        return node instanceof RegexNode.Repeat && ((RegexNode.Repeat) node).isUnbounded() && !((RegexNode.Repeat) node).possessive;
+    }
+}
@@ -0,0 +1,264 @@
+package io.zeko.validation;
+
+import java.util.List;
+
+/**
+ * Syntax tree of a {@link java.util.regex.Pattern} expression, built by {@link RegexParser}.
+ * <p>
+ * start and end are the positions of the node in the expression, used to quote it in reports.
+ */
+abstract class RegexNode {
+    static final int UNBOUNDED = -1;
+
+    final int start;
+    final int end;
+
+    RegexNode(int start, int end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * @return true when the node can match the empty string
+     */
+    abstract boolean isNullable();
+
+    /**
+     * @return characters that can be the first one matched by the node
+     */
+    abstract CharRanges first();
+
+    /**
+     * @return every character the node can match
+     */
+    abstract CharRanges chars();
+
+    /**
+     * Matches one character of a set.
+     */
+    static final class Chars extends RegexNode {
+        final CharRanges set;
+
+        Chars(int start, int end, CharRanges set) {
+            super(start, end);
+            this.set = set;
+        }
+
+        boolean isNullable() {
+            return false;
+        }
+
+        CharRanges first() {
+            return set;
+        }
+
+        CharRanges chars() {
+            return set;
+        }
+    }
+
+    static final class Sequence extends RegexNode {
+        final List<RegexNode> items;
+
+        Sequence(int start, int end, List<RegexNode> items) {
+            super(start, end);
+            this.items = items;
+        }
+
+        boolean isNullable() {
+            for (RegexNode item : items) {
+                if (!item.isNullable()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        CharRanges first() {
+            CharRanges first = CharRanges.EMPTY;
+            for (RegexNode item : items) {
+                first = first.union(item.first());
+                if (!item.isNullable()) {
+                    break;
+                }
+            }
+            return first;
+        }
+
+        CharRanges chars() {
+            CharRanges chars = CharRanges.EMPTY;
+            for (RegexNode item : items) {
+                chars = chars.union(item.chars());
+            }
+            return chars;
+        }
+    }
+
+    static final class Alternation extends RegexNode {
+        final List<RegexNode> branches;
+
+        Alternation(int start, int end, List<RegexNode> branches) {
+            super(start, end);
+            this.branches = branches;
+        }
+
+        boolean isNullable() {
+            for (RegexNode branch : branches) {
+                if (branch.isNullable()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        CharRanges first() {
+            CharRanges first = CharRanges.EMPTY;
+            for (RegexNode branch : branches) {
+                first = first.union(branch.first());
+            }
+            return first;
+        }
+
+        CharRanges chars() {
+            CharRanges chars = CharRanges.EMPTY;
+            for (RegexNode branch : branches) {
+                chars = chars.union(branch.chars());
+            }
+            return chars;
+        }
+    }
+
+    static final class Repeat extends RegexNode {
+        final RegexNode body;
+        final int min;
+        final int max;
+        final boolean greedy;
+        final boolean possessive;
+
+        Repeat(int start, int end, RegexNode body, int min, int max, boolean greedy, boolean possessive) {
+            super(start, end);
+            this.body = body;
+            this.min = min;
+            this.max = max;
+            this.greedy = greedy;
+            this.possessive = possessive;
+        }
+
+        boolean isUnbounded() {
+            return max == UNBOUNDED;
+        }
+
+        boolean isNullable() {
+            return min == 0 || body.isNullable();
+        }
+
+        CharRanges first() {
+            return max == 0 ? CharRanges.EMPTY : body.first();
+        }
+
+        CharRanges chars() {
+            return max == 0 ? CharRanges.EMPTY : body.chars();
+        }
+    }
+
+    static final class Group extends RegexNode {
+        enum Kind { CAPTURE, NON_CAPTURE, ATOMIC, LOOKAHEAD, NEGATIVE_LOOKAHEAD, LOOKBEHIND, NEGATIVE_LOOKBEHIND }
+
+        final RegexNode body;
+        final Kind kind;
+        final int index;
+
+        Group(int start, int end, RegexNode body, Kind kind, int index) {
+            super(start, end);
+            this.body = body;
+            this.kind = kind;
+            this.index = index;
+        }
+
+        boolean isLookaround() {
+            return kind != Kind.CAPTURE && kind != Kind.NON_CAPTURE && kind != Kind.ATOMIC;
+        }
+
+        boolean isNullable() {
+            return isLookaround() || body.isNullable();
+        }
+
+        CharRanges first() {
+            return isLookaround() ? CharRanges.EMPTY : body.first();
+        }
+
+        CharRanges chars() {
+            return isLookaround() ? CharRanges.EMPTY : body.chars();
+        }
+    }
+
+    /**
+     * Zero-width assertion such as ^, $ or \b.
+     */
+    static final class Assertion extends RegexNode {
+        enum Kind { BEGIN_LINE, END_LINE, BEGIN_INPUT, END_INPUT, END_INPUT_BEFORE_TERMINATOR, WORD_BOUNDARY, NOT_WORD_BOUNDARY, LAST_MATCH_END }
+
+        final Kind kind;
+
+        Assertion(int start, int end, Kind kind) {
+            super(start, end);
+            this.kind = kind;
+        }
+
+        boolean isNullable() {
+            return true;
+        }
+
+        CharRanges first() {
+            return CharRanges.EMPTY;
+        }
+
+        CharRanges chars() {
+            return CharRanges.EMPTY;
+        }
+    }
+
+    /**
+     * Back reference to a capture group, it can match any text.
+     */
+    static final class BackReference extends RegexNode {
+
+        BackReference(int start, int end) {
+            super(start, end);
+        }
+
+        boolean isNullable() {
+            return true;
+        }
+
+        CharRanges first() {
+            return CharRanges.ALL;
+        }
+
+        CharRanges chars() {
+            return CharRanges.ALL;
+        }
+    }
+
+    /**
+     * Construct that is valid for {@link java.util.regex.Pattern} but not modelled, such as \X.
+     */
+    static final class Unsupported extends RegexNode {
+
+        Unsupported(int start, int end) {
+            super(start, end);
+        }
+
+        boolean isNullable() {
+            return true;
+        }
+
+        CharRanges first() {
+            return CharRanges.ALL;
+        }
+
+        CharRanges chars() {
+            return CharRanges.ALL;
+        }
+    }
+}
@@ -0,0 +1,610 @@
+package io.zeko.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Parses a {@link Pattern} expression into a {@link RegexNode} tree.
+ * <p>
+ * The expression is compiled by {@link Pattern} first, so only valid expressions are parsed. Supported inline flags
+ * are i, s, m, d and x. Constructs that are not modelled exactly, such as Unicode properties, the u and U flags, \R or
+ * \X, are approximated and clear {@link #isExact()}.
+ */
+final class RegexParser {
+    private static final CharRanges PUNCT = CharRanges.of('!', '/').union(CharRanges.of(':', '@'))
+            .union(CharRanges.of('[', '`')).union(CharRanges.of('{', '~'));
+    private static final CharRanges ALPHA = CharRanges.of('a', 'z').union(CharRanges.of('A', 'Z'));
+
+    private final String regex;
+    private int pos;
+    private int groupCount;
+    private boolean exact = true;
+    private boolean caseInsensitive;
+    private boolean dotAll;
+    private boolean multiline;
+    private boolean unixLines;
+    private boolean comments;
+    private int lastSingle;
+    private CharRanges lastClassSet;
+    private RegexNode root;
+
+    private RegexParser(String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * @param regex expression in {@link Pattern} syntax
+     * @return parser holding the tree of the expression
+     * @throws PatternSyntaxException when the expression is not valid
+     */
+    static RegexParser parse(String regex) {
+        Pattern.compile(regex);
+        RegexParser parser = new RegexParser(regex);
+        parser.root = parser.parseAlternation();
+        if (parser.pos < regex.length()) {
+            throw new PatternSyntaxException("Unmatched closing ')'", regex, parser.pos);
+        }
+        return parser;
+    }
+
+    RegexNode getRoot() {
+        return root;
+    }
+
+    /**
+     * @return false when part of the expression was approximated
+     */
+    boolean isExact() {
+        return exact;
+    }
+
+    int getGroupCount() {
+        return groupCount;
+    }
+
+    private boolean more() {
+        return pos < regex.length();
+    }
+
+    private char peek() {
+        return regex.charAt(pos);
+    }
+
+    private boolean lookingAt(String s) {
+        return regex.startsWith(s, pos);
+    }
+
+    private void skipComments() {
+        if (!comments) {
+            return;
+        }
+        while (more()) {
+            char c = peek();
+            if (Character.isWhitespace(c)) {
+                pos++;
+            } else if (c == '#') {
+                while (more() && peek() != '\n') {
+                    pos++;
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    private RegexNode parseAlternation() {
+        final int start = pos;
+        List<RegexNode> branches = new ArrayList<>();
+        branches.add(parseSequence());
+        while (more() && peek() == '|') {
+            pos++;
+            branches.add(parseSequence());
+        }
+        return branches.size() == 1 ? branches.get(0) : new RegexNode.Alternation(start, pos, branches);
+    }
+
+    private RegexNode parseSequence() {
+        final int start = pos;
+        List<RegexNode> items = new ArrayList<>();
+        while (true) {
+            skipComments();
+            if (!more() || peek() == '|' || peek() == ')') {
+                break;
+            }
+            if (lookingAt("\\Q")) {
+                parseQuote(items);
+                continue;
+            }
+            RegexNode atom = parseAtom();
+            if (atom != null) {
+                items.add(parseQuantifier(atom));
+            }
+        }
+        if (items.size() == 1) {
+            return items.get(0);
+        }
+        return new RegexNode.Sequence(start, pos, items.isEmpty() ? Collections.emptyList() : items);
+    }
+
+    private RegexNode parseQuantifier(RegexNode atom) {
+        skipComments();
+        if (!more()) {
+            return atom;
+        }
+        int min;
+        int max;
+        switch (peek()) {
+            case '*':
+                min = 0;
+                max = RegexNode.UNBOUNDED;
+                pos++;
+                break;
+            case '+':
+                min = 1;
+                max = RegexNode.UNBOUNDED;
+                pos++;
+                break;
+            case '?':
+                min = 0;
+                max = 1;
+                pos++;
+                break;
+            case '{':
+                pos++;
+                min = parseNumber();
+                max = min;
+                if (peek() == ',') {
+                    pos++;
+                    max = peek() == '}' ? RegexNode.UNBOUNDED : parseNumber();
+                }
+                pos++;
+                break;
+            default:
+                return atom;
+        }
+        boolean greedy = true;
+        boolean possessive = false;
+        if (more() && peek() == '?') {
+            greedy = false;
+            pos++;
+        } else if (more() && peek() == '+') {
+            possessive = true;
+            pos++;
+        }
+        return new RegexNode.Repeat(atom.start, pos, atom, min, max, greedy, possessive);
+    }
+
+    private int parseNumber() {
+        final int start = pos;
+        while (Character.isDigit(peek())) {
+            pos++;
+        }
+        return Integer.parseInt(regex.substring(start, pos));
+    }
+
+    private RegexNode parseAtom() {
+        final int start = pos;
+        final char c = peek();
+        switch (c) {
+            case '(':
+                return parseGroup();
+            case '[':
+                final CharRanges set = parseClass();
+                return new RegexNode.Chars(start, pos, set);
+            case '.':
+                pos++;
+                CharRanges dot;
+                if (dotAll) {
+                    dot = CharRanges.ALL;
+                } else if (unixLines) {
+                    dot = CharRanges.single('\n').negate();
+                } else {
+                    dot = CharRanges.LINE_TERMINATOR.negate();
+                }
+                return new RegexNode.Chars(start, pos, dot);
+            case '^':
+                pos++;
+                return new RegexNode.Assertion(start, pos, multiline ? RegexNode.Assertion.Kind.BEGIN_LINE : RegexNode.Assertion.Kind.BEGIN_INPUT);
+            case '$':
+                pos++;
+                return new RegexNode.Assertion(start, pos, multiline ? RegexNode.Assertion.Kind.END_LINE : RegexNode.Assertion.Kind.END_INPUT_BEFORE_TERMINATOR);
+            case '\\':
+                return parseEscape();
+            default:
+                final int cp = regex.codePointAt(pos);
+                pos += Character.charCount(cp);
+                return new RegexNode.Chars(start, pos, literal(cp));
+        }
+    }
+
+    private CharRanges literal(int cp) {
+        CharRanges set = CharRanges.single(cp);
+        return caseInsensitive ? set.foldAsciiCase() : set;
+    }
+
+    private RegexNode parseGroup() {
+        final int start = pos;
+        pos++;
+        final boolean savedCaseInsensitive = caseInsensitive;
+        final boolean savedDotAll = dotAll;
+        final boolean savedMultiline = multiline;
+        final boolean savedUnixLines = unixLines;
+        final boolean savedComments = comments;
+
+        RegexNode.Group.Kind kind = RegexNode.Group.Kind.CAPTURE;
+        int index = -1;
+        if (lookingAt("?:")) {
+            kind = RegexNode.Group.Kind.NON_CAPTURE;
+            pos += 2;
+        } else if (lookingAt("?=")) {
+            kind = RegexNode.Group.Kind.LOOKAHEAD;
+            pos += 2;
+        } else if (lookingAt("?!")) {
+            kind = RegexNode.Group.Kind.NEGATIVE_LOOKAHEAD;
+            pos += 2;
+        } else if (lookingAt("?<=")) {
+            kind = RegexNode.Group.Kind.LOOKBEHIND;
+            pos += 3;
+        } else if (lookingAt("?<!")) {
+            kind = RegexNode.Group.Kind.NEGATIVE_LOOKBEHIND;
+            pos += 3;
+        } else if (lookingAt("?>")) {
+            kind = RegexNode.Group.Kind.ATOMIC;
+            pos += 2;
+        } else if (lookingAt("?<")) {
+            pos = regex.indexOf('>', pos) + 1;
+            index = ++groupCount;
+        } else if (lookingAt("?")) {
+            pos++;
+            boolean on = true;
+            while (peek() != ')' && peek() != ':') {
+                setFlag(peek(), on);
+                if (peek() == '-') {
+                    on = false;
+                }
+                pos++;
+            }
+            if (peek() == ')') {
+                // flags apply to the rest of the enclosing group
+                pos++;
+                return null;
+            }
+            kind = RegexNode.Group.Kind.NON_CAPTURE;
+            pos++;
+        } else {
+            index = ++groupCount;
+        }
+
+        RegexNode body = parseAlternation();
+        pos++;
+        caseInsensitive = savedCaseInsensitive;
+        dotAll = savedDotAll;
+        multiline = savedMultiline;
+        unixLines = savedUnixLines;
+        comments = savedComments;
+        return new RegexNode.Group(start, pos, body, kind, index);
+    }
+
+    private void setFlag(char flag, boolean on) {
+        switch (flag) {
+            case 'i':
+                caseInsensitive = on;
+                break;
+            case 's':
+                dotAll = on;
+                break;
+            case 'm':
+                multiline = on;
+                break;
+            case 'd':
+                unixLines = on;
+                break;
+            case 'x':
+                comments = on;
+                break;
+            case 'u':
+            case 'U':
+                exact = false;
+                break;
+            default:
+        }
+    }
+
+    private RegexNode parseEscape() {
+        final int start = pos;
+        final char c = regex.charAt(pos + 1);
+        switch (c) {
+            case 'b':
+                pos += 2;
+                return new RegexNode.Assertion(start, pos, RegexNode.Assertion.Kind.WORD_BOUNDARY);
+            case 'B':
+                pos += 2;
+                return new RegexNode.Assertion(start, pos, RegexNode.Assertion.Kind.NOT_WORD_BOUNDARY);
+            case 'A':
+                pos += 2;
+                return new RegexNode.Assertion(start, pos, RegexNode.Assertion.Kind.BEGIN_INPUT);
+            case 'z':
+                pos += 2;
+                return new RegexNode.Assertion(start, pos, RegexNode.Assertion.Kind.END_INPUT);
+            case 'Z':
+                pos += 2;
+                return new RegexNode.Assertion(start, pos, RegexNode.Assertion.Kind.END_INPUT_BEFORE_TERMINATOR);
+            case 'G':
+                pos += 2;
+                return new RegexNode.Assertion(start, pos, RegexNode.Assertion.Kind.LAST_MATCH_END);
+            case 'k':
+                pos = regex.indexOf('>', pos) + 1;
+                return new RegexNode.BackReference(start, pos);
+            case 'R':
+                pos += 2;
+                exact = false;
+                List<RegexNode> crlf = new ArrayList<>();
+                crlf.add(new RegexNode.Chars(start, pos, CharRanges.single('\r')));
+                crlf.add(new RegexNode.Chars(start, pos, CharRanges.single('\n')));
+                List<RegexNode> lineBreak = new ArrayList<>();
+                lineBreak.add(new RegexNode.Sequence(start, pos, crlf));
+                lineBreak.add(new RegexNode.Chars(start, pos, CharRanges.VERTICAL_SPACE));
+                return new RegexNode.Alternation(start, pos, lineBreak);
+            case 'X':
+            case 'N':
+                pos += 2;
+                if (c == 'N') {
+                    pos = regex.indexOf('}', pos) + 1;
+                }
+                exact = false;
+                return new RegexNode.Unsupported(start, pos);
+            default:
+                if (c >= '1' && c <= '9') {
+                    pos += 2;
+                    int group = c - '0';
+                    while (more() && Character.isDigit(peek()) && group * 10 + (peek() - '0') <= groupCount) {
+                        group = group * 10 + (peek() - '0');
+                        pos++;
+                    }
+                    return new RegexNode.BackReference(start, pos);
+                }
+                CharRanges set = parseCharEscape();
+                return new RegexNode.Chars(start, pos, set);
+        }
+    }
+
+    /**
+     * Adds the quoted chars to the items one by one, since {@link Pattern} reads a quote as escaped chars and a
+     * quantifier after \E repeats the last char only. A quantifier after an empty quote repeats what came before it,
+     * which is not modelled and clears {@link #isExact()}.
+     */
+    private void parseQuote(List<RegexNode> items) {
+        pos += 2;
+        int end = regex.indexOf("\\E", pos);
+        if (end < 0) {
+            end = regex.length();
+        }
+        RegexNode last = null;
+        while (pos < end) {
+            if (last != null) {
+                items.add(last);
+            }
+            final int cp = regex.codePointAt(pos);
+            final int at = pos;
+            pos += Character.charCount(cp);
+            last = new RegexNode.Chars(at, pos, literal(cp));
+        }
+        pos = Math.min(end + 2, regex.length());
+        if (last != null) {
+            items.add(parseQuantifier(last));
+            return;
+        }
+        skipComments();
+        if (more() && "*+?{".indexOf(peek()) >= 0) {
+            exact = false;
+        }
+    }
+
+    /**
+     * Parses an escape that stands for characters, sets {@link #lastSingle} when it is a single character.
+     */
+    private CharRanges parseCharEscape() {
+        pos++;
+        final char c = regex.charAt(pos++);
+        lastSingle = -1;
+        switch (c) {
+            case 'd':
+                return CharRanges.DIGIT;
+            case 'D':
+                return CharRanges.DIGIT.negate();
+            case 'w':
+                return CharRanges.WORD;
+            case 'W':
+                return CharRanges.WORD.negate();
+            case 's':
+                return CharRanges.SPACE;
+            case 'S':
+                return CharRanges.SPACE.negate();
+            case 'h':
+                return CharRanges.HORIZONTAL_SPACE;
+            case 'H':
+                return CharRanges.HORIZONTAL_SPACE.negate();
+            case 'v':
+                return CharRanges.VERTICAL_SPACE;
+            case 'V':
+                return CharRanges.VERTICAL_SPACE.negate();
+            case 'p':
+            case 'P':
+                String name;
+                if (peek() == '{') {
+                    final int close = regex.indexOf('}', pos);
+                    name = regex.substring(pos + 1, close);
+                    pos = close + 1;
+                } else {
+                    name = String.valueOf(regex.charAt(pos++));
+                }
+                CharRanges property = property(name);
+                if (caseInsensitive) {
+                    property = property.foldAsciiCase();
+                }
+                return c == 'P' ? property.negate() : property;
+            case 't':
+                return single('\t');
+            case 'n':
+                return single('\n');
+            case 'r':
+                return single('\r');
+            case 'f':
+                return single('\f');
+            case 'a':
+                return single(7);
+            case 'e':
+                return single(27);
+            case 'c':
+                return single(regex.charAt(pos++) ^ 64);
+            case '0':
+                int octal = 0;
+                int digits = 0;
+                while (more() && digits < 3 && peek() >= '0' && peek() <= '7' && octal * 8 + (peek() - '0') <= 0377) {
+                    octal = octal * 8 + (peek() - '0');
+                    pos++;
+                    digits++;
+                }
+                return single(octal);
+            case 'x':
+                if (peek() == '{') {
+                    final int close = regex.indexOf('}', pos);
+                    final int cp = Integer.parseInt(regex.substring(pos + 1, close), 16);
+                    pos = close + 1;
+                    return single(cp);
+                }
+                pos += 2;
+                return single(Integer.parseInt(regex.substring(pos - 2, pos), 16));
+            case 'u':
+                pos += 4;
+                return single(Integer.parseInt(regex.substring(pos - 4, pos), 16));
+            default:
+                if (Character.isHighSurrogate(c) && more()) {
+                    final int cp = regex.codePointAt(pos - 1);
+                    pos++;
+                    return single(cp);
+                }
+                return single(c);
+        }
+    }
+
+    private CharRanges single(int cp) {
+        lastSingle = cp;
+        return literal(cp);
+    }
+
+    private CharRanges property(String name) {
+        String posix = name.startsWith("Is") ? name.substring(2) : name;
+        switch (posix) {
+            case "Lower":
+                return CharRanges.of('a', 'z');
+            case "Upper":
+                return CharRanges.of('A', 'Z');
+            case "ASCII":
+                return CharRanges.of(0, 0x7F);
+            case "Alpha":
+                return ALPHA;
+            case "Digit":
+                return CharRanges.DIGIT;
+            case "Alnum":
+                return ALPHA.union(CharRanges.DIGIT);
+            case "Punct":
+                return PUNCT;
+            case "Graph":
+                return ALPHA.union(CharRanges.DIGIT).union(PUNCT);
+            case "Print":
+                return ALPHA.union(CharRanges.DIGIT).union(PUNCT).union(CharRanges.single(' '));
+            case "Blank":
+                return CharRanges.single(' ').union(CharRanges.single('\t'));
+            case "Cntrl":
+                return CharRanges.of(0, 0x1F).union(CharRanges.single(0x7F));
+            case "XDigit":
+                return CharRanges.DIGIT.union(CharRanges.of('a', 'f')).union(CharRanges.of('A', 'F'));
+            case "Space":
+                return CharRanges.SPACE;
+            default:
+                exact = false;
+                return CharRanges.ALL;
+        }
+    }
+
+    private CharRanges parseClass() {
+        pos++;
+        boolean negate = false;
+        if (peek() == '^') {
+            negate = true;
+            pos++;
+        }
+        CharRanges set = parseClassItems(true);
+        while (lookingAt("&&")) {
+            pos += 2;
+            set = set.intersect(parseClassItems(false));
+        }
+        pos++;
+        return negate ? set.negate() : set;
+    }
+
+    private CharRanges parseClassItems(boolean atStart) {
+        CharRanges set = CharRanges.EMPTY;
+        boolean first = atStart;
+        while (more()) {
+            if (comments && Character.isWhitespace(peek())) {
+                pos++;
+                continue;
+            }
+            final char c = peek();
+            if ((c == ']' && !first) || lookingAt("&&")) {
+                break;
+            }
+            first = false;
+            if (c == '[') {
+                set = set.union(parseClass());
+                continue;
+            }
+
+            int lo = classChar();
+            CharRanges item = lo < 0 ? lastClassSet : null;
+            if (lo >= 0 && pos + 1 < regex.length() && peek() == '-' && regex.charAt(pos + 1) != ']' && regex.charAt(pos + 1) != '[') {
+                pos++;
+                final int hi = classChar();
+                item = CharRanges.of(lo, hi);
+                if (caseInsensitive) {
+                    item = item.foldAsciiCase();
+                }
+            } else if (lo >= 0) {
+                item = literal(lo);
+            }
+            set = set.union(item);
+        }
+        return set;
+    }
+
+    /**
+     * @return the character at the position, or -1 when it is an escape for a set held in {@link #lastClassSet}
+     */
+    private int classChar() {
+        if (peek() == '\\') {
+            if (lookingAt("\\Q")) {
+                final int end = regex.indexOf("\\E", pos + 2);
+                final String quoted = regex.substring(pos + 2, end < 0 ? regex.length() : end);
+                pos = end < 0 ? regex.length() : end + 2;
+                CharRanges set = CharRanges.EMPTY;
+                for (int i = 0; i < quoted.length(); ) {
+                    final int cp = quoted.codePointAt(i);
+                    set = set.union(literal(cp));
+                    i += Character.charCount(cp);
+                }
+                lastClassSet = set;
+                return -1;
+            }
+            lastClassSet = parseCharEscape();
+            return lastSingle;
+        }
+        final int cp = regex.codePointAt(pos);
+        pos += Character.charCount(cp);
+        return cp;
+    }
+}
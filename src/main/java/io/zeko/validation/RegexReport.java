@@ -0,0 +1,139 @@
+package io.zeko.validation;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of the backtracking analysis of one regular expression, see {@link RegexAnalyzer}.
+ */
+public class RegexReport {
+
+    public enum Issue {
+        /**
+         * A repeated group contains another repetition that can also consume the start of the next iteration,
+         * e.g. (a+)+ or (.*a){12}. The number of ways to split the input grows exponentially.
+         */
+        NESTED_QUANTIFIER(true),
+        /**
+         * A repeated alternation can split the same text into iterations in two ways, e.g. (a|aa)+ or (\w|a)*.
+         * Branches that only share a prefix, such as (ab|a)*, are not reported.
+         */
+        OVERLAPPING_ALTERNATION(true),
+        /**
+         * A repeated alternation has branches that start alike, in a body too complex to decide whether they can
+         * match the same text, e.g. (a+b|a)*. A warning to review the expression.
+         */
+        POSSIBLE_OVERLAPPING_ALTERNATION(false),
+        /**
+         * Two repetitions in a row can match the same characters, e.g. \d+\d+x. Backtracking is polynomial.
+         */
+        ADJACENT_QUANTIFIERS(false),
+        /**
+         * The expression does not compile.
+         */
+        INVALID_SYNTAX(true);
+
+        private final boolean catastrophic;
+
+        Issue(boolean catastrophic) {
+            this.catastrophic = catastrophic;
+        }
+
+        public boolean isCatastrophic() {
+            return catastrophic;
+        }
+    }
+
+    public static class Finding {
+        private final Issue issue;
+        private final int start;
+        private final int end;
+        private final String fragment;
+        private final String message;
+
+        Finding(Issue issue, String regex, int start, int end, String message) {
+            this.issue = issue;
+            this.start = start;
+            this.end = end;
+            this.fragment = regex.substring(start, end);
+            this.message = message;
+        }
+
+        public Issue getIssue() {
+            return issue;
+        }
+
+        /**
+         * @return position of the offending part in the expression
+         */
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        public String getFragment() {
+            return fragment;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return issue + " at " + start + " '" + fragment + "': " + message;
+        }
+    }
+
+    private final String regex;
+    private final List<Finding> findings;
+    private final boolean exact;
+
+    RegexReport(String regex, List<Finding> findings, boolean exact) {
+        this.regex = regex;
+        this.findings = Collections.unmodifiableList(findings);
+        this.exact = exact;
+    }
+
+    public String getRegex() {
+        return regex;
+    }
+
+    public List<Finding> getFindings() {
+        return findings;
+    }
+
+    /**
+     * @return true when nothing was found
+     */
+    public boolean isSafe() {
+        return findings.isEmpty();
+    }
+
+    /**
+     * @return true when a finding can make the match time grow exponentially, or the expression is invalid
+     */
+    public boolean isCatastrophic() {
+        for (Finding finding : findings) {
+            if (finding.getIssue().isCatastrophic()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return false when part of the expression, such as a Unicode property, was approximated during the analysis
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    @Override
+    public String toString() {
+        return regex + (findings.isEmpty() ? ": safe" : ": " + findings);
+    }
+}
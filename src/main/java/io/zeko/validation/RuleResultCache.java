@@ -0,0 +1,85 @@
+package io.zeko.validation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size and TTL bounded store of rule outcomes keyed by the validated value, evicting the least recently used value
+ * first. Shared by {@link CachedPredicate} and {@link CachedAsyncRule}.
+ */
+class RuleResultCache<K, R> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final LinkedHashMap<K, CachedResult<R>> entries;
+
+    RuleResultCache(int maxSize, long ttlMillis, long negativeTtlMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.negativeTtlNanos = negativeTtlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<K, CachedResult<R>>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedResult<R>> eldest) {
+                return size() > RuleResultCache.this.maxSize;
+            }
+        };
+    }
+
+    synchronized R get(K key) {
+        CachedResult<R> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt - System.nanoTime() <= 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.result;
+    }
+
+    /**
+     * Stores the outcome for the TTL of a valid or an invalid result. Invalid results are not stored when the
+     * negative TTL is zero.
+     */
+    synchronized void put(K key, R result, boolean valid) {
+        long ttl = valid ? ttlNanos : negativeTtlNanos;
+        if (ttl <= 0) {
+            entries.remove(key);
+            return;
+        }
+        entries.put(key, new CachedResult<>(result, System.nanoTime() + ttl));
+    }
+
+    synchronized void remove(K key, R result) {
+        CachedResult<R> entry = entries.get(key);
+        if (entry != null && entry.result == result) {
+            entries.remove(key);
+        }
+    }
+
+    synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static class CachedResult<R> {
+        final R result;
+        final long expiresAt;
+
+        CachedResult(R result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
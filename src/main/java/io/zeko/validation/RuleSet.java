@@ -4,16 +4,66 @@ import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.validator.routines.CalendarValidator;
 import org.apache.commons.validator.routines.DateValidator;
 import org.apache.commons.validator.routines.TimeValidator;
-import org.apache.commons.validator.routines.UrlValidator;
 
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 public class RuleSet {
 
+    // the class rules below are matched with AsciiClass, the patterns define them for builtInPatterns()
+    private static final Pattern HAS_DIGIT = Pattern.compile(".*\\d.*");
+    private static final Pattern HAS_LETTER = Pattern.compile(".*[a-zA-Z]+.*");
+    private static final Pattern DIGIT = Pattern.compile("^\\d+$");
+    private static final Pattern LETTER = Pattern.compile("^[a-zA-Z]+$");
+    private static final Pattern ALPHA_NUM = Pattern.compile("^[a-zA-Z0-9]+$");
+    private static final Pattern ALPHA_NUM_SPACE = Pattern.compile("^[a-zA-Z0-9\\s]+$");
+    private static final Pattern ALPHA_NUM_LOWER_CASE = Pattern.compile("^[a-z0-9]+$");
+    private static final Pattern ALPHA_NUM_SPACE_LOWER_CASE = Pattern.compile("^[a-z0-9\\s]+$");
+    private static final Pattern ALPHA_NUM_UPPER_CASE = Pattern.compile("^[A-Z0-9]+$");
+    private static final Pattern ALPHA_NUM_SPACE_UPPER_CASE = Pattern.compile("^[A-Z0-9\\s]+$");
+    private static final Pattern ALPHA_NUM_DASH = Pattern.compile("^[a-zA-Z0-9\\-]+$");
+    private static final Pattern ALPHA_NUM_DASH_SPACE = Pattern.compile("^[a-zA-Z0-9\\-\\s]+$");
+    private static final Pattern ALPHA_NUM_UNDERSCORE = Pattern.compile("^[a-zA-Z0-9\\_]+$");
+    private static final Pattern ALPHA_NUM_UNDERSCORE_SPACE = Pattern.compile("^[a-zA-Z0-9\\_\\s]+$");
+    private static final Pattern ALPHA_NUM_QUOTE_SPACE = Pattern.compile("^[a-zA-Z0-9\\'\\s]+$");
+    private static final Pattern ALPHA_NUM_QUOTE_DASH_SPACE = Pattern.compile("^[a-zA-Z0-9\\'\\-\\s]+$");
+    private static final Pattern ALPHA_QUOTE_SPACE = Pattern.compile("^[a-zA-Z\\'\\s]+$");
+    private static final Pattern ALPHA_QUOTE_DASH_SPACE = Pattern.compile("^[a-zA-Z\\'\\-\\s]+$");
+    private static final Pattern COLOR_HEX = Pattern.compile("^#([0-9a-fA-F]{1,2}){3}$");
+    private static final int INVALID_DATE_TIME = Integer.MIN_VALUE;
+
+
+    /**
+     * @return the patterns behind the built-in rules by rule name
+     */
+    static Map<String, Pattern> builtInPatterns() {
+        final Map<String, Pattern> patterns = new LinkedHashMap<>();
+        patterns.put("hasDigit", HAS_DIGIT);
+        patterns.put("hasLetter", HAS_LETTER);
+        patterns.put("digit", DIGIT);
+        patterns.put("letter", LETTER);
+        patterns.put("alphaNum", ALPHA_NUM);
+        patterns.put("alphaNumSpace", ALPHA_NUM_SPACE);
+        patterns.put("alphaNumLowerCase", ALPHA_NUM_LOWER_CASE);
+        patterns.put("alphaNumSpaceLowerCase", ALPHA_NUM_SPACE_LOWER_CASE);
+        patterns.put("alphaNumUpperCase", ALPHA_NUM_UPPER_CASE);
+        patterns.put("alphaNumSpaceUpperCase", ALPHA_NUM_SPACE_UPPER_CASE);
+        patterns.put("alphaNumDash", ALPHA_NUM_DASH);
+        patterns.put("alphaNumDashSpace", ALPHA_NUM_DASH_SPACE);
+        patterns.put("alphaNumUnderscore", ALPHA_NUM_UNDERSCORE);
+        patterns.put("alphaNumUnderscoreSpace", ALPHA_NUM_UNDERSCORE_SPACE);
+        patterns.put("alphaNumQuoteSpace", ALPHA_NUM_QUOTE_SPACE);
+        patterns.put("alphaNumQuoteDashSpace", ALPHA_NUM_QUOTE_DASH_SPACE);
+        patterns.put("alphaQuoteSpace", ALPHA_QUOTE_SPACE);
+        patterns.put("alphaQuoteDashSpace", ALPHA_QUOTE_DASH_SPACE);
+        patterns.put("colorHex", COLOR_HEX);
+        return patterns;
+    }
 
     public static boolean isNotEmpty(String s) {
         return !isEmptyString(s);
@@ -39,6 +89,18 @@ public class RuleSet {
         return nonNull(s) && s.length() >= min && s.length() <= max;
     }
 
+    public static boolean isWithinMax(CharSequence s, int max) {
+        return isNull(s) || s.length() <= max;
+    }
+
+    public static boolean isWithinMin(CharSequence s, int min) {
+        return nonNull(s) && s.length() >= min;
+    }
+
+    public static boolean length(CharSequence s, int min, int max) {
+        return nonNull(s) && s.length() >= min && s.length() <= max;
+    }
+
     public static boolean maxValue(Integer s, int max) {
         return s <= max;
     }
@@ -68,88 +130,232 @@ public class RuleSet {
         return true;
     }
 
+    public static boolean isBlank(CharSequence v) {
+        int strLen;
+        if (v == null || (strLen = v.length()) == 0) {
+            return true;
+        }
+        for (int i = 0; i < strLen; i++) {
+            if (!Character.isWhitespace(v.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isTrimmedEmptyString(CharSequence v) {
+        if (isNull(v)) {
+            return false;
+        }
+        for (int i = 0; i < v.length(); i++) {
+            if (v.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static boolean regex(String s, String regexExpr) {
         return s.matches(regexExpr);
     }
 
+    public static boolean regex(CharSequence s, String regexExpr) {
+        return Pattern.matches(regexExpr, s);
+    }
+
+    /**
+     * Same as {@link #regex} but matched in linear time for the syntax supported by {@link LinearRegex}.
+     */
+    public static boolean regexLinear(CharSequence s, String regexExpr) {
+        return LinearRegex.compile(regexExpr).matches(s);
+    }
+
     public static boolean hasDigit(String s) {
-        return s.matches(".*\\d.*");
+        return AsciiClass.has(s, AsciiClass.DIGIT);
+    }
+
+    public static boolean hasDigit(CharSequence s) {
+        return AsciiClass.has(s, AsciiClass.DIGIT);
     }
 
     public static boolean hasLetter(String s) {
-        return s.matches(".*[a-zA-Z]+.*");
+        return AsciiClass.has(s, AsciiClass.LETTER);
+    }
+
+    public static boolean hasLetter(CharSequence s) {
+        return AsciiClass.has(s, AsciiClass.LETTER);
     }
 
     public static boolean digit(String s) {
-        return s.matches("^\\d+$");
+        return AsciiClass.only(s, AsciiClass.DIGIT);
+    }
+
+    public static boolean digit(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.DIGIT);
     }
 
     public static boolean letter(String s) {
-        return s.matches("^[a-zA-Z]+$");
+        return AsciiClass.only(s, AsciiClass.LETTER);
+    }
+
+    public static boolean letter(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.LETTER);
     }
 
     public static boolean alphaNum(String s) {
-        return s.matches("^[a-zA-Z0-9]+$");
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM);
+    }
+
+    public static boolean alphaNum(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM);
     }
 
     public static boolean alphaNumSpace(String s) {
-        return s.matches("^[a-zA-Z0-9\\s]+$");
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.SPACE);
+    }
+
+    public static boolean alphaNumSpace(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.SPACE);
     }
 
     public static boolean alphaNumLowerCase(String s) {
-        return s.matches("^[a-z0-9]+$");
+        return AsciiClass.only(s, AsciiClass.LOWER | AsciiClass.DIGIT);
+    }
+
+    public static boolean alphaNumLowerCase(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.LOWER | AsciiClass.DIGIT);
     }
 
     public static boolean alphaNumSpaceLowerCase(String s) {
-        return s.matches("^[a-z0-9\\s]+$");
+        return AsciiClass.only(s, AsciiClass.LOWER | AsciiClass.DIGIT | AsciiClass.SPACE);
+    }
+
+    public static boolean alphaNumSpaceLowerCase(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.LOWER | AsciiClass.DIGIT | AsciiClass.SPACE);
     }
 
     public static boolean alphaNumUpperCase(String s) {
-        return s.matches("^[A-Z0-9]+$");
+        return AsciiClass.only(s, AsciiClass.UPPER | AsciiClass.DIGIT);
+    }
+
+    public static boolean alphaNumUpperCase(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.UPPER | AsciiClass.DIGIT);
     }
 
     public static boolean alphaNumSpaceUpperCase(String s) {
-        return s.matches("^[A-Z0-9\\s]+$");
+        return AsciiClass.only(s, AsciiClass.UPPER | AsciiClass.DIGIT | AsciiClass.SPACE);
+    }
+
+    public static boolean alphaNumSpaceUpperCase(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.UPPER | AsciiClass.DIGIT | AsciiClass.SPACE);
     }
 
     public static boolean alphaNumDash(String s) {
-        return s.matches("^[a-zA-Z0-9\\-]+$");
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.DASH);
+    }
+
+    public static boolean alphaNumDash(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.DASH);
     }
 
     public static boolean alphaNumDashSpace(String s) {
-        return s.matches("^[a-zA-Z0-9\\-\\s]+$");
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.DASH | AsciiClass.SPACE);
+    }
+
+    public static boolean alphaNumDashSpace(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.DASH | AsciiClass.SPACE);
     }
 
     public static boolean alphaNumUnderscore(String s) {
-        return s.matches("^[a-zA-Z0-9\\_]+$");
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.UNDERSCORE);
+    }
+
+    public static boolean alphaNumUnderscore(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.UNDERSCORE);
     }
 
     public static boolean alphaNumUnderscoreSpace(String s) {
-        return s.matches("^[a-zA-Z0-9\\_\\s]+$");
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.UNDERSCORE | AsciiClass.SPACE);
+    }
+
+    public static boolean alphaNumUnderscoreSpace(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.UNDERSCORE | AsciiClass.SPACE);
     }
 
     public static boolean alphaNumQuoteSpace(String s) {
-        return s.matches("^[a-zA-Z0-9\\'\\s]+$");
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.QUOTE | AsciiClass.SPACE);
+    }
+
+    public static boolean alphaNumQuoteSpace(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.QUOTE | AsciiClass.SPACE);
     }
 
     public static boolean alphaNumQuoteDashSpace(String s) {
-        return s.matches("^[a-zA-Z0-9\\'\\-\\s]+$");
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.QUOTE | AsciiClass.DASH | AsciiClass.SPACE);
+    }
+
+    public static boolean alphaNumQuoteDashSpace(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.ALPHA_NUM | AsciiClass.QUOTE | AsciiClass.DASH | AsciiClass.SPACE);
     }
 
     public static boolean alphaQuoteSpace(String s) {
-        return s.matches("^[a-zA-Z\\'\\s]+$");
+        return AsciiClass.only(s, AsciiClass.LETTER | AsciiClass.QUOTE | AsciiClass.SPACE);
+    }
+
+    public static boolean alphaQuoteSpace(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.LETTER | AsciiClass.QUOTE | AsciiClass.SPACE);
     }
 
     public static boolean alphaQuoteDashSpace(String s) {
-        return s.matches("^[a-zA-Z\\'\\-\\s]+$");
+        return AsciiClass.only(s, AsciiClass.LETTER | AsciiClass.QUOTE | AsciiClass.DASH | AsciiClass.SPACE);
+    }
+
+    public static boolean alphaQuoteDashSpace(CharSequence s) {
+        return AsciiClass.only(s, AsciiClass.LETTER | AsciiClass.QUOTE | AsciiClass.DASH | AsciiClass.SPACE);
     }
 
     public static boolean allLowerCase(String s) {
-        return s.equals(s.toLowerCase());
+        final int seen = AsciiClass.scan(s);
+        if ((seen & AsciiClass.NON_ASCII) != 0) {
+            return s.equals(s.toLowerCase());
+        }
+        return (seen & AsciiClass.UPPER) == 0;
+    }
+
+    public static boolean allLowerCase(CharSequence s) {
+        final int seen = AsciiClass.scan(s);
+        if ((seen & AsciiClass.NON_ASCII) == 0) {
+            return (seen & AsciiClass.UPPER) == 0;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.toLowerCase(c) != c) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public static boolean allUpperCase(String s) {
-        return s.equals(s.toUpperCase());
+        final int seen = AsciiClass.scan(s);
+        if ((seen & AsciiClass.NON_ASCII) != 0) {
+            return s.equals(s.toUpperCase());
+        }
+        return (seen & AsciiClass.LOWER) == 0;
+    }
+
+    public static boolean allUpperCase(CharSequence s) {
+        final int seen = AsciiClass.scan(s);
+        if ((seen & AsciiClass.NON_ASCII) == 0) {
+            return (seen & AsciiClass.LOWER) == 0;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.toUpperCase(c) != c) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public static boolean passwordSimple(String s, int minLength, int maxLength) {
@@ -160,74 +366,101 @@ public class RuleSet {
         return passwordSimple(s, 6, 32);
     }
 
+    /**
+     * Validate a Visa, Mastercard, American Express, Diners Club, Discover or JCB number with its Luhn checksum, see
+     * {@link CardNumber}
+     */
     public static boolean creditCard(String s) {
-        final List<String> listOfPattern = new ArrayList<String>();
-
-        //Visa
-        listOfPattern.add("^4[0-9]{12}(?:[0-9]{3})?$");
-
-        //Master card
-        listOfPattern.add("^5[1-5][0-9]{14}$");
-
-        //American Express
-        listOfPattern.add("^3[47][0-9]{13}$");
-
-        //Diners Club
-        listOfPattern.add("^3(?:0[0-5]|[68][0-9])[0-9]{11}$");
-
-        //Discover
-        listOfPattern.add("^6(?:011|5[0-9]{2})[0-9]{3,}$");
-
-        //JCB
-        listOfPattern.add("^(?:2131|1800|35[0-9]{3})[0-9]{3,}$");
-
-        for (String pattern : listOfPattern) {
-            if (s.matches(pattern)) return true;
-        }
-        return false;
+        return CardNumber.isValid(s);
     }
 
     public static boolean ccVisa(String s) {
-        return s.matches("^4[0-9]{12}(?:[0-9]{3})?$");
+        return CardNumber.isValid(s, CardNumber.Brand.VISA);
     }
 
     public static boolean ccMaster(String s) {
-        return s.matches("^5[1-5][0-9]{14}$");
+        return CardNumber.isValid(s, CardNumber.Brand.MASTERCARD);
     }
 
     public static boolean ccAmericanExpress(String s) {
-        return s.matches("^3[47][0-9]{13}$");
+        return CardNumber.isValid(s, CardNumber.Brand.AMERICAN_EXPRESS);
     }
 
     public static boolean ccDinersClub(String s) {
-        return s.matches("^3(?:0[0-5]|[68][0-9])[0-9]{11}$");
+        return CardNumber.isValid(s, CardNumber.Brand.DINERS_CLUB);
     }
 
     public static boolean ccDiscover(String s) {
-        return s.matches("^6(?:011|5[0-9]{2})[0-9]{3,}$");
+        return CardNumber.isValid(s, CardNumber.Brand.DISCOVER);
     }
 
     public static boolean ccJcb(String s) {
-        return s.matches("^(?:2131|1800|35[0-9]{3})[0-9]{3,}$");
+        return CardNumber.isValid(s, CardNumber.Brand.JCB);
     }
 
     public static boolean email(String s) {
-        return s.indexOf("--") == -1 &&
-                s.indexOf("-.") == -1 &&
-                s.matches("^([\\w\\!\\#$\\%\\&'\\*\\+\\-\\/\\=\\?\\^\\`{\\|\\}\\~]+\\.)*[\\w\\!\\#$\\%\\&'\\*\\+\\-\\/\\=\\?\\^\\`{\\|\\}\\~\\_]+@((((([a-z0-9]{1}[a-z0-9\\-]{0,62}[a-z0-9]{1})|[a-z])\\.)+[a-z]{2,6})|(\\d{1,3}\\.){3}\\d{1,3}(\\:\\d{1,5})?)$");
+        return EmailParser.isValid(s);
+    }
+
+    public static boolean email(CharSequence s) {
+        return EmailParser.isValid(s);
+    }
+
+    public static boolean email(CharSequence s, EmailParser.Strictness strictness) {
+        return EmailParser.isValid(s, strictness);
     }
 
     public static boolean url(String s, String[] schemes) {
-        final UrlValidator urlValidator = new UrlValidator(schemes);
-        return urlValidator.isValid(s);
+        return UrlParser.isValid(s, schemes);
     }
 
     public static boolean url(String s) {
-        return url(s, new String[]{"http", "https"});
+        return UrlParser.isValid(s);
+    }
+
+    public static boolean url(CharSequence s, String[] schemes) {
+        return UrlParser.isValid(s, schemes);
+    }
+
+    public static boolean url(CharSequence s) {
+        return UrlParser.isValid(s);
     }
 
     public static boolean ipv4(String s) {
-        return s.matches("^(([1-9]?[0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5]).){3}([1-9]?[0-9]|1[0-9]{2}|2[0-4][0-9]|25[0-5])$");
+        return IpParser.isIpv4(s);
+    }
+
+    public static boolean ipv4(CharSequence s) {
+        return IpParser.isIpv4(s);
+    }
+
+    public static boolean ipv6(CharSequence s) {
+        return IpParser.isIpv6(s);
+    }
+
+    /**
+     * Validate an IPv4 or IPv6 address
+     */
+    public static boolean ip(CharSequence s) {
+        return IpParser.isIp(s);
+    }
+
+    /**
+     * Validate an IPv4 or IPv6 CIDR block such as 10.0.0.0/8 or 2001:db8::/32
+     */
+    public static boolean cidr(CharSequence s) {
+        return IpParser.isCidr(s);
+    }
+
+    public static boolean ipInRanges(CharSequence s, IpRangeSet ranges) {
+        return ranges.contains(s);
+    }
+
+    /**
+     * Validate an IPv4 or IPv6 address outside all the blocks, a value that is not an address fails
+     */
+    public static boolean ipNotInRanges(CharSequence s, IpRangeSet ranges) {
+        return IpParser.isIp(s) && !ranges.contains(s);
     }
 
     /**
@@ -236,7 +469,11 @@ public class RuleSet {
      * @return
      */
     public static boolean hostName(String s) {
-        return s.matches("^(?=.{1,255}$)[0-9A-Za-z](?:(?:[0-9A-Za-z]|\\b-){0,61}[0-9A-Za-z])?(?:\\.[0-9A-Za-z](?:(?:[0-9A-Za-z]|\\b-){0,61}[0-9A-Za-z])?)*\\.?$");
+        return HostName.isHostName(s);
+    }
+
+    public static boolean hostName(CharSequence s) {
+        return HostName.isHostName(s);
     }
 
     /**
@@ -245,7 +482,11 @@ public class RuleSet {
      * @return
      */
     public static boolean serverName(String s) {
-        return s.matches("^[A-Za-z](?:(?:[0-9A-Za-z]|\\b-){0,61}[0-9A-Za-z])?(?:\\.[0-9A-Za-z](?:(?:[0-9A-Za-z]|\\b-){0,61}[0-9A-Za-z])?)*$");
+        return HostName.isServerName(s);
+    }
+
+    public static boolean serverName(CharSequence s) {
+        return HostName.isServerName(s);
     }
 
     /**
@@ -254,8 +495,11 @@ public class RuleSet {
      * @return
      */
     public static boolean subdomain(String s, int allowLevels) {
-        final int levels = allowLevels + 2;
-        return s.matches("^[a-zA-Z0-9\\-]+(\\.[a-zA-Z0-9\\-]+){2," + levels + "}$");
+        return HostName.isSubdomain(s, allowLevels);
+    }
+
+    public static boolean subdomain(CharSequence s, int allowLevels) {
+        return HostName.isSubdomain(s, allowLevels);
     }
 
     public static boolean subdomain(String s) {
@@ -263,7 +507,20 @@ public class RuleSet {
     }
 
     public static boolean domain(String s) {
-        return s.matches("^[a-z0-9]+([\\-\\.]{1}[a-z0-9]+)*\\.[a-z]{2,6}$");
+        return HostName.isDomain(s, false);
+    }
+
+    public static boolean domain(CharSequence s) {
+        return HostName.isDomain(s, false);
+    }
+
+    /**
+     * Validate a lower case domain, with knownTld its TLD must be in the built-in TLD table of {@link HostName}
+     *
+     * @return
+     */
+    public static boolean domain(CharSequence s, boolean knownTld) {
+        return HostName.isDomain(s, knownTld);
     }
 
     /**
@@ -272,7 +529,40 @@ public class RuleSet {
      * @return
      */
     public static boolean colorHex(String s) {
-        return s.matches("^#([0-9a-fA-F]{1,2}){3}$");
+        return COLOR_HEX.matcher(s).matches();
+    }
+
+    /**
+     * Validate a UUID such as f47ac10b-58cc-4372-a567-0e02b2c3d479, of any version
+     *
+     * @return
+     */
+    public static boolean uuid(CharSequence s) {
+        return TokenFormat.isUuid(s);
+    }
+
+    public static boolean uuid(CharSequence s, int version) {
+        return TokenFormat.isUuid(s, version);
+    }
+
+    public static boolean hex(CharSequence s) {
+        return TokenFormat.isHex(s);
+    }
+
+    public static boolean hex(CharSequence s, int length) {
+        return TokenFormat.isHex(s, length);
+    }
+
+    public static boolean base64(CharSequence s) {
+        return TokenFormat.isBase64(s);
+    }
+
+    public static boolean base64Url(CharSequence s) {
+        return TokenFormat.isBase64Url(s);
+    }
+
+    public static boolean ulid(CharSequence s) {
+        return TokenFormat.isUlid(s);
     }
 
     public static boolean isNumber(String s) {
@@ -288,6 +578,18 @@ public class RuleSet {
         return true;
     }
 
+    public static boolean isLong(CharSequence s) {
+        if (isNull(s)) {
+            return false;
+        }
+        try {
+            long d = Long.parseLong(s, 0, s.length(), 10);
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+        return true;
+    }
+
     public static boolean isULong(String s) {
         try {
             long d = Long.parseUnsignedLong(s);
@@ -297,6 +599,18 @@ public class RuleSet {
         return true;
     }
 
+    public static boolean isULong(CharSequence s) {
+        if (isNull(s)) {
+            return false;
+        }
+        try {
+            long d = Long.parseUnsignedLong(s, 0, s.length(), 10);
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+        return true;
+    }
+
     public static boolean isInteger(String s) {
         try {
             int d = Integer.parseInt(s);
@@ -306,6 +620,18 @@ public class RuleSet {
         return true;
     }
 
+    public static boolean isInteger(CharSequence s) {
+        if (isNull(s)) {
+            return false;
+        }
+        try {
+            int d = Integer.parseInt(s, 0, s.length(), 10);
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+        return true;
+    }
+
     public static boolean isUInteger(String s) {
         try {
             int d = Integer.parseUnsignedInt(s);
@@ -315,6 +641,18 @@ public class RuleSet {
         return true;
     }
 
+    public static boolean isUInteger(CharSequence s) {
+        if (isNull(s)) {
+            return false;
+        }
+        try {
+            int d = Integer.parseUnsignedInt(s, 0, s.length(), 10);
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+        return true;
+    }
+
     public static boolean isDouble(String s) {
         try {
             double d = Double.parseDouble(s);
@@ -324,6 +662,13 @@ public class RuleSet {
         return true;
     }
 
+    /**
+     * The JDK has no {@link CharSequence} parser for floating point values, so the value is materialised once here.
+     */
+    public static boolean isDouble(CharSequence s) {
+        return nonNull(s) && isDouble(s.toString());
+    }
+
     public static boolean isFloat(String s) {
         try {
             float d = Float.parseFloat(s);
@@ -333,6 +678,13 @@ public class RuleSet {
         return true;
     }
 
+    /**
+     * The JDK has no {@link CharSequence} parser for floating point values, so the value is materialised once here.
+     */
+    public static boolean isFloat(CharSequence s) {
+        return nonNull(s) && isFloat(s.toString());
+    }
+
     /**
      * Validate float value.
      *
@@ -373,6 +725,19 @@ public class RuleSet {
         return d >= min;
     }
 
+    public static boolean min(CharSequence s, long min) {
+        if (isNull(s)) {
+            return false;
+        }
+        long d;
+        try {
+            d = Long.parseLong(s, 0, s.length(), 10);
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+        return d >= min;
+    }
+
     public static boolean max(String s, long max) {
         long d;
         try {
@@ -383,6 +748,19 @@ public class RuleSet {
         return d <= max;
     }
 
+    public static boolean max(CharSequence s, long max) {
+        if (isNull(s)) {
+            return false;
+        }
+        long d;
+        try {
+            d = Long.parseLong(s, 0, s.length(), 10);
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+        return d <= max;
+    }
+
     public static boolean min(String s, int min) {
         int d;
         try {
@@ -393,6 +771,19 @@ public class RuleSet {
         return d >= min;
     }
 
+    public static boolean min(CharSequence s, int min) {
+        if (isNull(s)) {
+            return false;
+        }
+        int d;
+        try {
+            d = Integer.parseInt(s, 0, s.length(), 10);
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+        return d >= min;
+    }
+
     public static boolean max(String s, int max) {
         int d;
         try {
@@ -403,6 +794,19 @@ public class RuleSet {
         return d <= max;
     }
 
+    public static boolean max(CharSequence s, int max) {
+        if (isNull(s)) {
+            return false;
+        }
+        int d;
+        try {
+            d = Integer.parseInt(s, 0, s.length(), 10);
+        } catch (NumberFormatException nfe) {
+            return false;
+        }
+        return d <= max;
+    }
+
     public static boolean min(String s, double min) {
         double d;
         try {
@@ -413,6 +817,10 @@ public class RuleSet {
         return d >= min;
     }
 
+    public static boolean min(CharSequence s, double min) {
+        return nonNull(s) && min(s.toString(), min);
+    }
+
     public static boolean max(String s, double max) {
         double d;
         try {
@@ -423,6 +831,10 @@ public class RuleSet {
         return d <= max;
     }
 
+    public static boolean max(CharSequence s, double max) {
+        return nonNull(s) && max(s.toString(), max);
+    }
+
     public static boolean min(String s, float min) {
         float d;
         try {
@@ -433,6 +845,10 @@ public class RuleSet {
         return d >= min;
     }
 
+    public static boolean min(CharSequence s, float min) {
+        return nonNull(s) && min(s.toString(), min);
+    }
+
     public static boolean max(String s, float max) {
         float d;
         try {
@@ -443,6 +859,10 @@ public class RuleSet {
         return d <= max;
     }
 
+    public static boolean max(CharSequence s, float max) {
+        return nonNull(s) && max(s.toString(), max);
+    }
+
     public static boolean inArray(String s, String[] arr) {
         boolean result = false;
         for (String i : arr) {
@@ -536,6 +956,60 @@ public class RuleSet {
         return separateByInArray(s, delimiter, items, 0, 0);
     }
 
+    public static boolean minCount(List<?> values, int min) {
+        return nonNull(values) && values.size() >= min;
+    }
+
+    public static boolean maxCount(List<?> values, int max) {
+        return isNull(values) || values.size() <= max;
+    }
+
+    public static boolean count(List<?> values, int min, int max) {
+        return nonNull(values) && values.size() >= min && values.size() <= max;
+    }
+
+    /**
+     * Validate that a list of values holds no duplicates. Small lists are compared pairwise without allocating.
+     *
+     * @return
+     */
+    public static boolean unique(List<?> values) {
+        if (isNull(values)) {
+            return true;
+        }
+        final int size = values.size();
+        if (size <= 16) {
+            for (int i = 1; i < size; i++) {
+                Object v = values.get(i);
+                for (int j = 0; j < i; j++) {
+                    if (Objects.equals(v, values.get(j))) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        final Set<Object> seen = new HashSet<>(size * 2);
+        for (Object v : values) {
+            if (!seen.add(v)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean each(List<String> values, Predicate<String> predicate) {
+        if (isNull(values)) {
+            return false;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            if (!predicate.test(values.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public static boolean isBoolean(String s) {
         return s.equals("false") || s.equals("true");
     }
@@ -559,6 +1033,14 @@ public class RuleSet {
         return dateFormat(s, "yyyy-MM-dd");
     }
 
+    public static boolean dateFormat(CharSequence s, String format) {
+        return nonNull(s) && dateFormat(s.toString(), format);
+    }
+
+    public static boolean dateFormat(CharSequence s) {
+        return dateFormat(s, "yyyy-MM-dd");
+    }
+
     public static boolean dateBetween(String s, String start, String end, String format, TimeZone timezone) {
         if (start.equals("now")) {
             SimpleDateFormat df = new SimpleDateFormat(format);
@@ -882,7 +1364,63 @@ public class RuleSet {
     }
 
 
+    /**
+     * Compares two ISO date-times, either may be "now"
+     *
+     * @return -1, 0 or 1, INVALID_DATE_TIME when one of them is not a valid date-time
+     */
+    private static int compareIso(String a, String b, TimeZone timeZone) {
+        final long[] fieldsA = new long[IsoDateTime.FIELDS];
+        final long[] fieldsB = new long[IsoDateTime.FIELDS];
+        if (!parseIso(a, fieldsA) || !parseIso(b, fieldsB)) {
+            return INVALID_DATE_TIME;
+        }
+        return Integer.signum(IsoDateTime.compare(fieldsA, fieldsB, timeZone));
+    }
+
+    private static boolean parseIso(String s, long[] fields) {
+        if (isNull(s)) {
+            return false;
+        }
+        if (s.equals("now")) {
+            IsoDateTime.now(fields);
+            return true;
+        }
+        return IsoDateTime.parse(s, fields);
+    }
+
+    public static boolean epochSeconds(CharSequence s) {
+        return EpochTime.isEpochSeconds(s);
+    }
+
+    public static boolean epochMillis(CharSequence s) {
+        return EpochTime.isEpochMillis(s);
+    }
+
+    /**
+     * Validate a timestamp of the format (epochSeconds, epochMillis or iso) within the window before now
+     *
+     * @param windowMillis window length, see {@link EpochTime#parseWindow}
+     * @return
+     */
+    public static boolean withinPast(CharSequence s, long windowMillis, String format) {
+        return EpochTime.withinPast(EpochTime.toEpochMilli(s, format), windowMillis);
+    }
+
+    /**
+     * Validate a timestamp of the format (epochSeconds, epochMillis or iso) within the window after now
+     *
+     * @param windowMillis window length, see {@link EpochTime#parseWindow}
+     * @return
+     */
+    public static boolean withinNext(CharSequence s, long windowMillis, String format) {
+        return EpochTime.withinNext(EpochTime.toEpochMilli(s, format), windowMillis);
+    }
+
     public static boolean dateTimeFormat(String s, String format, TimeZone timeZone) {
+        if (IsoDateTime.isIsoFormat(format)) {
+            return nonNull(s) && IsoDateTime.isValid(s);
+        }
         CalendarValidator v = CalendarValidator.getInstance();
         Calendar c = v.validate(s, format, timeZone);
         return c != null;
@@ -896,7 +1434,27 @@ public class RuleSet {
         return dateTimeFormat(s,  "yyyy-MM-dd'T'H:mm:ss", TimeZone.getDefault());
     }
 
+    public static boolean dateTimeFormat(CharSequence s, String format, TimeZone timeZone) {
+        if (IsoDateTime.isIsoFormat(format)) {
+            return nonNull(s) && IsoDateTime.isValid(s);
+        }
+        return nonNull(s) && dateTimeFormat(s.toString(), format, timeZone);
+    }
+
+    public static boolean dateTimeFormat(CharSequence s, String format) {
+        return dateTimeFormat(s, format, TimeZone.getDefault());
+    }
+
+    public static boolean dateTimeFormat(CharSequence s) {
+        return dateTimeFormat(s, "yyyy-MM-dd'T'H:mm:ss", TimeZone.getDefault());
+    }
+
     public static boolean dateTimeBetween(String s, String start, String end, String format, TimeZone timezone) {
+        if (IsoDateTime.isIsoFormat(format)) {
+            final int resStart = compareIso(start, s, timezone);
+            final int resEnd = compareIso(end, s, timezone);
+            return resStart != INVALID_DATE_TIME && resEnd != INVALID_DATE_TIME && resStart <= 0 && resEnd >= 0;
+        }
         if (start.equals("now")) {
             SimpleDateFormat df = new SimpleDateFormat(format);
             df.setTimeZone(timezone);
@@ -925,6 +1483,10 @@ public class RuleSet {
     }
 
     public static boolean dateTimeAfter(String s, String compareWith, String format, TimeZone timeZone) {
+        if (IsoDateTime.isIsoFormat(format)) {
+            final int res = compareIso(s, compareWith, timeZone);
+            return res == 1;
+        }
         if (compareWith.equals("now")) {
             SimpleDateFormat df = new SimpleDateFormat(format);
             df.setTimeZone(timeZone);
@@ -946,6 +1508,10 @@ public class RuleSet {
     }
 
     public static boolean dateTimeBefore(String s, String compareWith, String format, TimeZone timeZone) {
+        if (IsoDateTime.isIsoFormat(format)) {
+            final int res = compareIso(s, compareWith, timeZone);
+            return res == -1;
+        }
         if (compareWith.equals("now")) {
             SimpleDateFormat df = new SimpleDateFormat(format);
             df.setTimeZone(timeZone);
@@ -967,6 +1533,10 @@ public class RuleSet {
     }
 
     public static boolean dateTimeEq(String s, String compareWith, String format, TimeZone timeZone) {
+        if (IsoDateTime.isIsoFormat(format)) {
+            final int res = compareIso(s, compareWith, timeZone);
+            return res == 0;
+        }
         if (compareWith.equals("now")) {
             SimpleDateFormat df = new SimpleDateFormat(format);
             df.setTimeZone(timeZone);
@@ -0,0 +1,138 @@
+package io.zeko.validation;
+
+/**
+ * Scanners for opaque IDs and tokens: UUID, hex, base64, base64url and ULID. Each is one pass over a lookup table of
+ * alphabets with the length worked out up front, and none allocates.
+ * <p>
+ * TokenFormat.isUuid("f47ac10b-58cc-4372-a567-0e02b2c3d479", 4)
+ */
+public final class TokenFormat {
+    static final int UUID_LENGTH = 36;
+    static final int ULID_LENGTH = 26;
+
+    private static final int HEX = 1;
+    private static final int BASE64 = 1 << 1;
+    private static final int BASE64_URL = 1 << 2;
+    /** Crockford base32 of ULID: digits and letters without I, L, O and U, in any case */
+    private static final int CROCKFORD = 1 << 3;
+
+    private static final byte[] TABLE = new byte[128];
+
+    static {
+        for (char c = '0'; c <= '9'; c++) {
+            TABLE[c] = HEX | BASE64 | BASE64_URL | CROCKFORD;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            final int crockford = c == 'I' || c == 'L' || c == 'O' || c == 'U' ? 0 : CROCKFORD;
+            final int hex = c <= 'F' ? HEX : 0;
+            TABLE[c] = (byte) (hex | BASE64 | BASE64_URL | crockford);
+            TABLE[c + ('a' - 'A')] = (byte) (hex | BASE64 | BASE64_URL | crockford);
+        }
+        TABLE['+'] = BASE64;
+        TABLE['/'] = BASE64;
+        TABLE['-'] = BASE64_URL;
+        TABLE['_'] = BASE64_URL;
+    }
+
+    private TokenFormat() {
+    }
+
+    /**
+     * UUID in the 8-4-4-4-12 hex form of RFC 4122, of any version and variant
+     */
+    public static boolean isUuid(CharSequence s) {
+        if (s.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            final char c = s.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23 ? c != '-' : !is(c, HEX)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param version UUID version from 1 to 8, the RFC 4122 variant is required as well
+     */
+    public static boolean isUuid(CharSequence s, int version) {
+        if (!isUuid(s) || s.charAt(14) != (char) ('0' + version)) {
+            return false;
+        }
+        final char variant = s.charAt(19);
+        return variant == '8' || variant == '9' || variant == 'a' || variant == 'b' || variant == 'A' || variant == 'B';
+    }
+
+    public static boolean isHex(CharSequence s) {
+        return s.length() > 0 && scan(s, 0, s.length(), HEX);
+    }
+
+    /**
+     * @param length exact number of hex digits
+     */
+    public static boolean isHex(CharSequence s, int length) {
+        return s.length() == length && isHex(s);
+    }
+
+    /**
+     * Standard base64 of RFC 4648, padded with "=" to a multiple of 4 chars
+     */
+    public static boolean isBase64(CharSequence s) {
+        final int length = s.length();
+        if (length == 0 || (length & 3) != 0) {
+            return false;
+        }
+        return scan(s, 0, length - padding(s, length), BASE64);
+    }
+
+    /**
+     * URL-safe base64 of RFC 4648 with - and _, padded to a multiple of 4 chars or not padded at all
+     */
+    public static boolean isBase64Url(CharSequence s) {
+        final int length = s.length();
+        if (length == 0) {
+            return false;
+        }
+        final int padding = padding(s, length);
+        // without padding, 1 char past a multiple of 4 does not hold a whole byte
+        if (padding > 0 ? (length & 3) != 0 : (length & 3) == 1) {
+            return false;
+        }
+        return scan(s, 0, length - padding, BASE64_URL);
+    }
+
+    /**
+     * ULID: 26 Crockford base32 chars, the first one up to 7 so that the 128-bit value does not overflow
+     */
+    public static boolean isUlid(CharSequence s) {
+        return s.length() == ULID_LENGTH && s.charAt(0) >= '0' && s.charAt(0) <= '7' && scan(s, 1, ULID_LENGTH, CROCKFORD);
+    }
+
+    /**
+     * @return number of "=" at the end, 0 to 2; more than 2 is reported as more than the length so that the scan fails
+     */
+    private static int padding(CharSequence s, int length) {
+        int padding = 0;
+        while (padding < 3 && padding < length && s.charAt(length - 1 - padding) == '=') {
+            padding++;
+        }
+        return padding == 3 ? length + 1 : padding;
+    }
+
+    private static boolean scan(CharSequence s, int from, int to, int alphabet) {
+        if (to < from) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (!is(s.charAt(i), alphabet)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean is(char c, int alphabet) {
+        return c < 128 && (TABLE[c] & alphabet) != 0;
+    }
+}
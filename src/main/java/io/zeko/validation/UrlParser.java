@@ -0,0 +1,257 @@
+package io.zeko.validation;
+
+/**
+ * Single-pass URL parser for absolute URLs with an authority, as per RFC 3986, that does not allocate.
+ * <p>
+ * scheme://[userinfo@]host[:port][/path][?query][#fragment]
+ * <p>
+ * The scheme must be one of the allowed schemes, in any case. The user info is a user name and an optional password
+ * after one ":". The host is a host name of two labels or more with a TLD of letters, an IPv4 address or an IPv6
+ * address in brackets. The port is 0 to 65535. The path may hold unreserved chars, sub-delims, ":", "@" and "%", and
+ * may not hold "//" or go above the root with "..". The query may hold any char but whitespace, and the fragment any
+ * char but a line terminator. "%" is not checked for two hex digits after it.
+ * <p>
+ * This is what the url rule accepted with commons-validator's UrlValidator, but for two differences: the TLD is not
+ * looked up, so https://example.test is valid, and whitespace right after the host or port, which UrlValidator
+ * ignored, is rejected.
+ * <p>
+ * UrlParser.isValid("https://example.com:8080/a?b=c", "https")
+ */
+public final class UrlParser {
+    /** index of the ":" after the scheme */
+    public static final int SCHEME_END = 0;
+    public static final int HOST_START = 1;
+    public static final int HOST_END = 2;
+    /** port number, -1 when there is none */
+    public static final int PORT = 3;
+    /** index where the path starts, equal to the end of the authority when the path is empty */
+    public static final int PATH_START = 4;
+    /** index of the "?", -1 when there is no query */
+    public static final int QUERY_START = 5;
+    /** index of the "#", -1 when there is no fragment */
+    public static final int FRAGMENT_START = 6;
+    /** size of the offsets array for {@link #parse} */
+    public static final int OFFSETS = 7;
+
+    static final String[] DEFAULT_SCHEMES = {"http", "https"};
+
+    private static final int MAX_PORT = 65535;
+
+    private UrlParser() {
+    }
+
+    public static boolean isValid(CharSequence s) {
+        return parse(s, DEFAULT_SCHEMES, null);
+    }
+
+    public static boolean isValid(CharSequence s, String... schemes) {
+        return parse(s, schemes, null);
+    }
+
+    /**
+     * @param schemes allowed schemes in lower case, null for http and https
+     * @param out     receives the component offsets, see {@link #SCHEME_END} to {@link #FRAGMENT_START}; may be null
+     * @return true when s is a valid URL with an allowed scheme
+     */
+    public static boolean parse(CharSequence s, String[] schemes, int[] out) {
+        final int length = s.length();
+
+        // scheme
+        int i = 0;
+        for (; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c == ':') {
+                break;
+            }
+            if (!isLetter(c) && (i == 0 || !(isDigit(c) || c == '+' || c == '-' || c == '.'))) {
+                return false;
+            }
+        }
+        if (i == 0 || i + 2 >= length || s.charAt(i + 1) != '/' || s.charAt(i + 2) != '/'
+                || !isAllowed(s, i, schemes == null ? DEFAULT_SCHEMES : schemes)) {
+            return false;
+        }
+        final int schemeEnd = i;
+
+        // authority, the host starts after the last "@" of the authority
+        final int authorityStart = i + 3;
+        int authorityEnd = authorityStart;
+        int hostStart = authorityStart;
+        while (authorityEnd < length) {
+            final char c = s.charAt(authorityEnd);
+            if (c == '/' || c == '?' || c == '#') {
+                break;
+            }
+            if (c == '@') {
+                hostStart = authorityEnd + 1;
+            }
+            authorityEnd++;
+        }
+        if (hostStart > authorityStart && !isUserInfo(s, authorityStart, hostStart - 1)) {
+            return false;
+        }
+
+        int hostEnd;
+        if (hostStart < authorityEnd && s.charAt(hostStart) == '[') {
+            hostEnd = hostStart + 1;
+            while (hostEnd < authorityEnd && s.charAt(hostEnd) != ']') {
+                hostEnd++;
+            }
+            if (hostEnd == authorityEnd || !IpParser.parseIpv6(s, hostStart + 1, hostEnd, null)) {
+                return false;
+            }
+            hostEnd++;
+        } else {
+            hostEnd = hostStart;
+            while (hostEnd < authorityEnd && s.charAt(hostEnd) != ':') {
+                hostEnd++;
+            }
+            if (IpParser.parseIpv4(s, hostStart, hostEnd) < 0 && !HostName.isQualified(s, hostStart, hostEnd)) {
+                return false;
+            }
+        }
+
+        int port = -1;
+        if (hostEnd < authorityEnd) {
+            if (s.charAt(hostEnd) != ':') {
+                return false;
+            }
+            for (int p = hostEnd + 1; p < authorityEnd; p++) {
+                final char c = s.charAt(p);
+                if (!isDigit(c)) {
+                    return false;
+                }
+                port = (port < 0 ? 0 : port * 10) + (c - '0');
+                if (port > MAX_PORT) {
+                    return false;
+                }
+            }
+        }
+
+        // path, with the depth of segments to reject ".." above the root
+        i = authorityEnd;
+        int depth = 0;
+        int segmentStart = i + 1;
+        for (; i <= length; i++) {
+            final char c = i < length ? s.charAt(i) : '?';
+            if (c == '/' || c == '?' || c == '#') {
+                if (i > authorityEnd) {
+                    final int segment = i - segmentStart;
+                    if (segment == 0 && c == '/') {
+                        return false;
+                    }
+                    if (segment == 2 && s.charAt(segmentStart) == '.' && s.charAt(segmentStart + 1) == '.') {
+                        if (--depth < 0) {
+                            return false;
+                        }
+                    } else if (!(segment == 1 && s.charAt(segmentStart) == '.') && segment > 0) {
+                        depth++;
+                    }
+                }
+                if (c != '/') {
+                    break;
+                }
+                segmentStart = i + 1;
+                continue;
+            }
+            if (!isPathChar(c)) {
+                return false;
+            }
+        }
+        final int queryStart = i < length && s.charAt(i) == '?' ? i : -1;
+
+        // query up to the first "#", then the fragment
+        int fragmentStart = i < length && s.charAt(i) == '#' ? i : -1;
+        for (i++; i < length; i++) {
+            final char c = s.charAt(i);
+            if (fragmentStart < 0 && c == '#') {
+                fragmentStart = i;
+            } else if (fragmentStart < 0 ? isWhitespace(c) : isLineTerminator(c)) {
+                return false;
+            }
+        }
+
+        if (out != null) {
+            out[SCHEME_END] = schemeEnd;
+            out[HOST_START] = hostStart;
+            out[HOST_END] = hostEnd;
+            out[PORT] = port;
+            out[PATH_START] = authorityEnd;
+            out[QUERY_START] = queryStart;
+            out[FRAGMENT_START] = fragmentStart;
+        }
+        return true;
+    }
+
+    private static boolean isAllowed(CharSequence s, int schemeEnd, String[] schemes) {
+        for (String scheme : schemes) {
+            if (scheme.length() != schemeEnd) {
+                continue;
+            }
+            int i = 0;
+            while (i < schemeEnd && Character.toLowerCase(s.charAt(i)) == Character.toLowerCase(scheme.charAt(i))) {
+                i++;
+            }
+            if (i == schemeEnd) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * User name of one char or more and an optional password after one ":"
+     */
+    private static boolean isUserInfo(CharSequence s, int from, int to) {
+        int colon = -1;
+        for (int i = from; i < to; i++) {
+            final char c = s.charAt(i);
+            if (c == ':' && colon < 0 && i > from) {
+                colon = i;
+            } else if (c == ':' || c == '@' || !isPathChar(c)) {
+                return false;
+            }
+        }
+        return to > from;
+    }
+
+    /**
+     * Path char as per RFC 3986: unreserved, sub-delims, ":" or "@", and "%" without checking the octet after it, as
+     * UrlValidator did
+     */
+    private static boolean isPathChar(char c) {
+        if (isLetter(c) || isDigit(c)) {
+            return true;
+        }
+        switch (c) {
+            case '-': case '.': case '_': case '~':
+            case '!': case '$': case '&': case '\'': case '(': case ')': case '*': case '+': case ',': case ';':
+            case '=': case ':': case '@': case '%':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Whitespace as \s of {@link java.util.regex.Pattern}
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Line terminators that . of {@link java.util.regex.Pattern} does not match
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
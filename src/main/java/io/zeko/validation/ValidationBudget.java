@@ -0,0 +1,154 @@
+package io.zeko.validation;
+
+import io.zeko.validation.excpetion.BudgetExceededException;
+
+/**
+ * Bounds the time and the work spent validating a form and each of its fields.
+ * <p>
+ * The deadline starts when the budget is created. Rules that scan the value, such as regex, email or hostName, run over
+ * a {@link CharSequence} view that charges one step per character read, so a backtracking pattern is stopped in the
+ * middle of the match instead of running to the end. The deadline is also checked before every rule. A field that runs
+ * past the budget fails with the "budgetExceeded" rule and its remaining rules are skipped.
+ * <p>
+ * ValidationBudget form = new ValidationBudget(50, 0, 5, 100_000);<br>
+ * valid(email, "email", note).withBudget(form.forField()).required().email();<br>
+ * <p>
+ * A limit of 0 means unlimited. Budgets are meant for a single validation and are not thread-safe.
+ */
+public class ValidationBudget {
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final ValidationBudget parent;
+    private final long deadlineNanos;
+    private final long maxSteps;
+    private final long fieldTimeoutMillis;
+    private final long fieldMaxSteps;
+    private long steps;
+
+    /**
+     * @param timeoutMillis      time allowed for the whole form
+     * @param maxSteps           characters the rules may read for the whole form
+     * @param fieldTimeoutMillis time allowed for each field created by {@link #forField()}
+     * @param fieldMaxSteps      characters the rules may read for each field created by {@link #forField()}
+     */
+    public ValidationBudget(long timeoutMillis, long maxSteps, long fieldTimeoutMillis, long fieldMaxSteps) {
+        this(null, deadline(timeoutMillis), maxSteps, fieldTimeoutMillis, fieldMaxSteps);
+    }
+
+    public ValidationBudget(long timeoutMillis, long maxSteps) {
+        this(timeoutMillis, maxSteps, 0, 0);
+    }
+
+    private ValidationBudget(ValidationBudget parent, long deadlineNanos, long maxSteps, long fieldTimeoutMillis, long fieldMaxSteps) {
+        this.parent = parent;
+        this.deadlineNanos = deadlineNanos;
+        this.maxSteps = maxSteps;
+        this.fieldTimeoutMillis = fieldTimeoutMillis;
+        this.fieldMaxSteps = fieldMaxSteps;
+    }
+
+    private static long deadline(long timeoutMillis) {
+        return timeoutMillis > 0 ? System.nanoTime() + timeoutMillis * 1_000_000L : 0;
+    }
+
+    /**
+     * @return budget of one field using the field limits, the steps it spends are charged to this budget too
+     */
+    public ValidationBudget forField() {
+        return forField(fieldTimeoutMillis, fieldMaxSteps);
+    }
+
+    /**
+     * @param timeoutMillis time allowed for the field, bounded by the deadline of this budget
+     * @param maxSteps      characters the rules may read for the field
+     * @return budget of one field, the steps it spends are charged to this budget too
+     */
+    public ValidationBudget forField(long timeoutMillis, long maxSteps) {
+        long fieldDeadline = deadline(timeoutMillis);
+        if (deadlineNanos != 0 && (fieldDeadline == 0 || fieldDeadline - deadlineNanos > 0)) {
+            fieldDeadline = deadlineNanos;
+        }
+        return new ValidationBudget(this, fieldDeadline, maxSteps, 0, 0);
+    }
+
+    /**
+     * Charges one step and checks the deadline every {@value #DEADLINE_CHECK_INTERVAL} steps.
+     *
+     * @throws BudgetExceededException when the steps or the time are exhausted
+     */
+    public void step() {
+        steps++;
+        if (maxSteps > 0 && steps > maxSteps) {
+            throw new BudgetExceededException("Validation step budget of " + maxSteps + " exceeded");
+        }
+        if (steps % DEADLINE_CHECK_INTERVAL == 0) {
+            check();
+        }
+        if (parent != null) {
+            parent.step();
+        }
+    }
+
+    /**
+     * @throws BudgetExceededException when the deadline has passed
+     */
+    public void check() {
+        if (isTimedOut()) {
+            throw new BudgetExceededException("Validation deadline exceeded");
+        }
+    }
+
+    private boolean isTimedOut() {
+        return deadlineNanos != 0 && System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    public boolean isExceeded() {
+        return (maxSteps > 0 && steps > maxSteps) || isTimedOut() || (parent != null && parent.isExceeded());
+    }
+
+    public long getSteps() {
+        return steps;
+    }
+
+    /**
+     * @param value value read by a rule
+     * @return view of the value that charges this budget for every character read
+     */
+    public CharSequence wrap(CharSequence value) {
+        return value == null ? null : new BudgetedCharSequence(value, this);
+    }
+
+    /**
+     * CharSequence view that charges the budget on every character read.
+     */
+    static final class BudgetedCharSequence implements CharSequence {
+        private final CharSequence value;
+        private final ValidationBudget budget;
+
+        BudgetedCharSequence(CharSequence value, ValidationBudget budget) {
+            this.value = value;
+            this.budget = budget;
+        }
+
+        @Override
+        public int length() {
+            return value.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            budget.step();
+            return value.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new BudgetedCharSequence(value.subSequence(start, end), budget);
+        }
+
+        @Override
+        public String toString() {
+            return value.toString();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.zeko.validation;
 
+import io.zeko.validation.excpetion.BudgetExceededException;
 import io.zeko.validation.excpetion.ValidationErrorException;
 import org.apache.commons.lang3.StringUtils;
 
@@ -12,6 +13,8 @@ import java.util.function.Predicate;
 
 public class ValidationEngine<T, FV extends ValidationEngine> {
 
+    static final String BUDGET_EXCEEDED = "budgetExceeded";
+
     private final String fieldName;
     private final T value;
     private final Note note;
@@ -19,6 +22,8 @@ public class ValidationEngine<T, FV extends ValidationEngine> {
     private boolean nullIsValid;
     private boolean ignore;
     private boolean failOnFirst;
+    private boolean failed;
+    private ValidationBudget budget;
     private List<String> rules;
 
     protected ValidationEngine(String fieldName, T value, Note note) {
@@ -36,6 +41,7 @@ public class ValidationEngine<T, FV extends ValidationEngine> {
         this.fieldName = null;
         this.value = value;
         this.note = null;
+        this.rules = new ArrayList<>();
     }
 
     /**
@@ -150,8 +156,42 @@ public class ValidationEngine<T, FV extends ValidationEngine> {
         return thenValidation(value, thenPredicates);
     }
 
+    /**
+     * Bounds the time and the characters the remaining rules may spend on the value. When the budget runs out the value
+     * fails with the "budgetExceeded" rule and no further predicates will be evaluated.
+     *
+     * @param budget budget of this field, see {@link ValidationBudget#forField()}
+     * @return validation engine
+     */
+    public ValidationEngine<T, FV> withBudget(ValidationBudget budget) {
+        this.budget = budget;
+        return this;
+    }
+
     private boolean checkFailure(Predicate<T> predicate) {
-        return evaluatePredicate() && !predicate.test(value);
+        if (!evaluatePredicate()) {
+            return false;
+        }
+        if (budget == null) {
+            return !predicate.test(value);
+        }
+        try {
+            budget.check();
+            return !predicate.test(value);
+        } catch (BudgetExceededException e) {
+            stopValidation = true;
+            markBudgetExceeded();
+            return false;
+        }
+    }
+
+    private void markBudgetExceeded() {
+        Map<String, String> errMsgs = note == null ? null : note.getCustomErrorMessages();
+        if (errMsgs != null && errMsgs.containsKey(BUDGET_EXCEEDED) && note.shouldConvertFieldName()) {
+            markAsFailed(null, BUDGET_EXCEEDED);
+        } else {
+            markAsFailed(fieldName == null ? "Validation budget exceeded" : fieldName + " exceeded the validation budget");
+        }
     }
 
     private boolean evaluatePredicate() {
@@ -177,6 +217,7 @@ public class ValidationEngine<T, FV extends ValidationEngine> {
     }
 
     private void markAsFailed(String message) {
+        failed = true;
         if (note != null) {
             note.addMessage(fieldName, message);
         } else {
@@ -188,6 +229,7 @@ public class ValidationEngine<T, FV extends ValidationEngine> {
     }
 
     private void markAsFailed(String message, String ruleDescribe) {
+        failed = true;
         if (note != null) {
             String formattedError = message;
             String formattedField = fieldName;
@@ -215,12 +257,17 @@ public class ValidationEngine<T, FV extends ValidationEngine> {
                 formattedField = StringUtils.capitalize(formattedField.replace(" id", " ID"));
             }
 
-            if (parts.length > 1) {
-                String[] argsStr = parts[1].split(";");
-                formattedError = formattedError.replace(note.getConvertFieldName(), formattedField);
-                formattedError = String.format(formattedError, argsStr);
+            if (formattedError == null) {
+                // no message for the rule, e.g. a plan compiled without custom messages
+                formattedError = ruleDescribe;
             } else {
-                formattedError = formattedError.replace(note.getConvertFieldName(), formattedField);
+                if (note.shouldConvertFieldName()) {
+                    formattedError = formattedError.replace(note.getConvertFieldName(), formattedField);
+                }
+                if (parts.length > 1) {
+                    String[] argsStr = parts[1].split(";");
+                    formattedError = String.format(formattedError, argsStr);
+                }
             }
 
             note.addMessage(fieldName, formattedError);
@@ -237,12 +284,42 @@ public class ValidationEngine<T, FV extends ValidationEngine> {
         return this.rules;
     }
 
+    T getValue() {
+        return value;
+    }
+
+    String getFieldName() {
+        return fieldName;
+    }
+
+    Note getNote() {
+        return note;
+    }
+
+    boolean isFailOnFirst() {
+        return failOnFirst;
+    }
+
+    boolean hasFailed() {
+        return failed;
+    }
+
+    ValidationBudget getBudget() {
+        return budget;
+    }
+
+    boolean shouldEvaluate() {
+        return evaluatePredicate();
+    }
+
     private static <NEW_TYPE> ValidationEngine<NEW_TYPE, ValidationEngine> copyValidator(NEW_TYPE value, ValidationEngine source) {
         ValidationEngine<NEW_TYPE, ValidationEngine> newValidator = new ValidationEngine<>(source.fieldName, value, source.note);
         newValidator.setIgnore(source.ignore);
         newValidator.setNullIsValid(source.nullIsValid);
         newValidator.setStopValidation(source.stopValidation);
         newValidator.setFailOnFirst(source.failOnFirst);
+        newValidator.failed = source.failed;
+        newValidator.budget = source.budget;
         return newValidator;
     }
 
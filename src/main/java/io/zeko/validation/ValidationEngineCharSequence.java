@@ -0,0 +1,569 @@
+package io.zeko.validation;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Validation engine for {@link CharSequence} type value. Rules are evaluated directly over the sequence (e.g. a
+ * {@link java.nio.CharBuffer} or a slice of a network buffer) without copying it into a {@link String} first.
+ */
+public class ValidationEngineCharSequence extends ValidationEngine<CharSequence, ValidationEngineCharSequence> {
+
+    public ValidationEngineCharSequence(CharSequence value) {
+        super(value);
+    }
+
+    public ValidationEngineCharSequence(String fieldName, CharSequence value, Note note) {
+        super(fieldName, value, note);
+    }
+
+    public ValidationEngineCharSequence(CharSequence value, List<String> note) {
+        super(value, note);
+    }
+
+    @Override
+    public ValidationEngineCharSequence must(Predicate<CharSequence> predicate, String message) {
+        return (ValidationEngineCharSequence) super.must(predicate, message);
+    }
+
+    public ValidationEngineCharSequence must(Predicate<CharSequence> predicate, String message, String validationName) {
+        return (ValidationEngineCharSequence) super.must(predicate, message, validationName);
+    }
+
+    @Override
+    public ValidationEngineCharSequence withBudget(ValidationBudget budget) {
+        return (ValidationEngineCharSequence) super.withBudget(budget);
+    }
+
+    /**
+     * @return the value as read by pattern rules, charged to the budget when there is one
+     */
+    private CharSequence chars(CharSequence s) {
+        final ValidationBudget budget = getBudget();
+        return budget == null ? s : budget.wrap(s);
+    }
+
+    /**
+     * Set a value with length greater than the max to be considered as invalid.
+     * valid; v.length() less or equal than max
+     *
+     * @param max     maximum valid value
+     * @param message validation error
+     * @return validation engines
+     */
+    public ValidationEngineCharSequence maxLength(int max, String message) {
+        return must((s) -> RuleSet.isWithinMax(s, max), message, String.format("maxLength;%d", max));
+    }
+
+    public ValidationEngineCharSequence maxLength(int max) {
+        return maxLength(max, null);
+    }
+
+    /**
+     * Set a value with length less than the min to be considered as invalid.
+     * valid; v.length() greater or equal than min
+     *
+     * @param min     minimum valid value
+     * @param message validation error
+     * @return validation engines
+     */
+    public ValidationEngineCharSequence minLength(int min, String message) {
+        return must((s) -> RuleSet.isWithinMin(s, min), message, String.format("minLength;%d", min));
+    }
+
+    public ValidationEngineCharSequence minLength(int min) {
+        return minLength(min, null);
+    }
+
+    public ValidationEngineCharSequence length(int min, int max, String message) {
+        return must((s) -> RuleSet.length(s, min, max), message, String.format("length;%d;%d", min, max));
+    }
+
+    public ValidationEngineCharSequence length(int min, int max) {
+        return length(min, max, null);
+    }
+
+    public ValidationEngineCharSequence digit(String message) {
+        return must((s) -> RuleSet.digit(s), message, "digit");
+    }
+
+    public ValidationEngineCharSequence digit() {
+        return digit(null);
+    }
+
+    public ValidationEngineCharSequence letter(String message) {
+        return must((s) -> RuleSet.letter(s), message, "letter");
+    }
+
+    public ValidationEngineCharSequence letter() {
+        return letter(null);
+    }
+
+    public ValidationEngineCharSequence hasDigit(String message) {
+        return must((s) -> RuleSet.hasDigit(s), message, "hasDigit");
+    }
+
+    public ValidationEngineCharSequence hasDigit() {
+        return hasDigit(null);
+    }
+
+    public ValidationEngineCharSequence hasLetter(String message) {
+        return must((s) -> RuleSet.hasLetter(s), message, "hasLetter");
+    }
+
+    public ValidationEngineCharSequence hasLetter() {
+        return hasLetter(null);
+    }
+
+    public ValidationEngineCharSequence alphaNum(String message) {
+        return must((s) -> RuleSet.alphaNum(s), message, "alphaNum");
+    }
+
+    public ValidationEngineCharSequence alphaNum() {
+        return alphaNum(null);
+    }
+
+    public ValidationEngineCharSequence alphaNumSpace(String message) {
+        return must((s) -> RuleSet.alphaNumSpace(s), message, "alphaNumSpace");
+    }
+
+    public ValidationEngineCharSequence alphaNumSpace() {
+        return alphaNumSpace(null);
+    }
+
+    public ValidationEngineCharSequence alphaNumLowerCase(String message) {
+        return must((s) -> RuleSet.alphaNumLowerCase(s), message, "alphaNumLowerCase");
+    }
+
+    public ValidationEngineCharSequence alphaNumLowerCase() {
+        return alphaNumLowerCase(null);
+    }
+
+    public ValidationEngineCharSequence alphaNumSpaceLowerCase(String message) {
+        return must((s) -> RuleSet.alphaNumSpaceLowerCase(s), message, "alphaNumSpaceLowerCase");
+    }
+
+    public ValidationEngineCharSequence alphaNumSpaceLowerCase() {
+        return alphaNumSpaceLowerCase(null);
+    }
+
+    public ValidationEngineCharSequence alphaNumUpperCase(String message) {
+        return must((s) -> RuleSet.alphaNumUpperCase(s), message, "alphaNumUpperCase");
+    }
+
+    public ValidationEngineCharSequence alphaNumUpperCase() {
+        return alphaNumUpperCase(null);
+    }
+
+    public ValidationEngineCharSequence alphaNumSpaceUpperCase(String message) {
+        return must((s) -> RuleSet.alphaNumSpaceUpperCase(s), message, "alphaNumSpaceUpperCase");
+    }
+
+    public ValidationEngineCharSequence alphaNumSpaceUpperCase() {
+        return alphaNumSpaceUpperCase(null);
+    }
+
+    public ValidationEngineCharSequence alphaNumDash(String message) {
+        return must((s) -> RuleSet.alphaNumDash(s), message, "alphaNumDash");
+    }
+
+    public ValidationEngineCharSequence alphaNumDash() {
+        return alphaNumDash(null);
+    }
+
+    public ValidationEngineCharSequence alphaNumDashSpace(String message) {
+        return must((s) -> RuleSet.alphaNumDashSpace(s), message, "alphaNumDashSpace");
+    }
+
+    public ValidationEngineCharSequence alphaNumDashSpace() {
+        return alphaNumDashSpace(null);
+    }
+
+    public ValidationEngineCharSequence alphaNumUnderscore(String message) {
+        return must((s) -> RuleSet.alphaNumUnderscore(s), message, "alphaNumUnderscore");
+    }
+
+    public ValidationEngineCharSequence alphaNumUnderscore() {
+        return alphaNumUnderscore(null);
+    }
+
+    public ValidationEngineCharSequence alphaNumUnderscoreSpace(String message) {
+        return must((s) -> RuleSet.alphaNumUnderscoreSpace(s), message, "alphaNumUnderscoreSpace");
+    }
+
+    public ValidationEngineCharSequence alphaNumUnderscoreSpace() {
+        return alphaNumUnderscoreSpace(null);
+    }
+
+    public ValidationEngineCharSequence alphaNumQuoteSpace(String message) {
+        return must((s) -> RuleSet.alphaNumQuoteSpace(s), message, "alphaNumQuoteSpace");
+    }
+
+    public ValidationEngineCharSequence alphaNumQuoteSpace() {
+        return alphaNumQuoteSpace(null);
+    }
+
+    public ValidationEngineCharSequence alphaNumQuoteDashSpace(String message) {
+        return must((s) -> RuleSet.alphaNumQuoteDashSpace(s), message, "alphaNumQuoteDashSpace");
+    }
+
+    public ValidationEngineCharSequence alphaNumQuoteDashSpace() {
+        return alphaNumQuoteDashSpace(null);
+    }
+
+    public ValidationEngineCharSequence alphaQuoteSpace(String message) {
+        return must((s) -> RuleSet.alphaQuoteSpace(s), message, "alphaQuoteSpace");
+    }
+
+    public ValidationEngineCharSequence alphaQuoteSpace() {
+        return alphaQuoteSpace(null);
+    }
+
+    public ValidationEngineCharSequence alphaQuoteDashSpace(String message) {
+        return must((s) -> RuleSet.alphaQuoteDashSpace(s), message, "alphaQuoteDashSpace");
+    }
+
+    public ValidationEngineCharSequence alphaQuoteDashSpace() {
+        return alphaQuoteDashSpace(null);
+    }
+
+    public ValidationEngineCharSequence allLowerCase(String message) {
+        return must((s) -> RuleSet.allLowerCase(s), message, "allLowerCase");
+    }
+
+    public ValidationEngineCharSequence allLowerCase() {
+        return allLowerCase(null);
+    }
+
+    public ValidationEngineCharSequence allUpperCase(String message) {
+        return must((s) -> RuleSet.allUpperCase(s), message, "allUpperCase");
+    }
+
+    public ValidationEngineCharSequence allUpperCase() {
+        return allUpperCase(null);
+    }
+
+    public ValidationEngineCharSequence ipv4(String message) {
+        return must((s) -> RuleSet.ipv4(chars(s)), message, "ipv4");
+    }
+
+    public ValidationEngineCharSequence ipv4() {
+        return ipv4(null);
+    }
+
+    public ValidationEngineCharSequence ipv6(String message) {
+        return must((s) -> RuleSet.ipv6(chars(s)), message, "ipv6");
+    }
+
+    public ValidationEngineCharSequence ipv6() {
+        return ipv6(null);
+    }
+
+    public ValidationEngineCharSequence ip(String message) {
+        return must((s) -> RuleSet.ip(chars(s)), message, "ip");
+    }
+
+    public ValidationEngineCharSequence ip() {
+        return ip(null);
+    }
+
+    public ValidationEngineCharSequence cidr(String message) {
+        return must((s) -> RuleSet.cidr(chars(s)), message, "cidr");
+    }
+
+    public ValidationEngineCharSequence cidr() {
+        return cidr(null);
+    }
+
+    public ValidationEngineCharSequence ipInRanges(IpRangeSet ranges, String message) {
+        return must((s) -> RuleSet.ipInRanges(chars(s), ranges), message, "ipInRanges");
+    }
+
+    public ValidationEngineCharSequence ipInRanges(IpRangeSet ranges) {
+        return ipInRanges(ranges, null);
+    }
+
+    public ValidationEngineCharSequence ipNotInRanges(IpRangeSet ranges, String message) {
+        return must((s) -> RuleSet.ipNotInRanges(chars(s), ranges), message, "ipNotInRanges");
+    }
+
+    public ValidationEngineCharSequence ipNotInRanges(IpRangeSet ranges) {
+        return ipNotInRanges(ranges, null);
+    }
+
+    public ValidationEngineCharSequence hostName(String message) {
+        return must((s) -> RuleSet.hostName(chars(s)), message, "hostName");
+    }
+
+    public ValidationEngineCharSequence hostName() {
+        return hostName(null);
+    }
+
+    public ValidationEngineCharSequence serverName(String message) {
+        return must((s) -> RuleSet.serverName(chars(s)), message, "serverName");
+    }
+
+    public ValidationEngineCharSequence serverName() {
+        return serverName(null);
+    }
+
+    public ValidationEngineCharSequence url(String[] schemes, String message) {
+        return must((s) -> RuleSet.url(chars(s), schemes), message, "url;" + String.join(";", schemes));
+    }
+
+    public ValidationEngineCharSequence url(String[] schemes) {
+        return url(schemes, null);
+    }
+
+    public ValidationEngineCharSequence url(String message) {
+        return must((s) -> RuleSet.url(chars(s)), message, "url");
+    }
+
+    public ValidationEngineCharSequence url() {
+        return url((String) null);
+    }
+
+    public ValidationEngineCharSequence domain(boolean knownTld, String message) {
+        return must((s) -> RuleSet.domain(chars(s), knownTld), message, knownTld ? "domain;knownTld" : "domain");
+    }
+
+    public ValidationEngineCharSequence domain(String message) {
+        return domain(false, message);
+    }
+
+    public ValidationEngineCharSequence domain() {
+        return domain(false, null);
+    }
+
+    public ValidationEngineCharSequence uuid(int version, String message) {
+        return must((s) -> RuleSet.uuid(chars(s), version), message, String.format("uuid;%d", version));
+    }
+
+    public ValidationEngineCharSequence uuid(int version) {
+        return uuid(version, null);
+    }
+
+    public ValidationEngineCharSequence uuid(String message) {
+        return must((s) -> RuleSet.uuid(chars(s)), message, "uuid");
+    }
+
+    public ValidationEngineCharSequence uuid() {
+        return uuid(null);
+    }
+
+    public ValidationEngineCharSequence hex(int length, String message) {
+        return must((s) -> RuleSet.hex(chars(s), length), message, String.format("hex;%d", length));
+    }
+
+    public ValidationEngineCharSequence hex(int length) {
+        return hex(length, null);
+    }
+
+    public ValidationEngineCharSequence hex(String message) {
+        return must((s) -> RuleSet.hex(chars(s)), message, "hex");
+    }
+
+    public ValidationEngineCharSequence hex() {
+        return hex(null);
+    }
+
+    public ValidationEngineCharSequence base64(String message) {
+        return must((s) -> RuleSet.base64(chars(s)), message, "base64");
+    }
+
+    public ValidationEngineCharSequence base64() {
+        return base64(null);
+    }
+
+    public ValidationEngineCharSequence base64Url(String message) {
+        return must((s) -> RuleSet.base64Url(chars(s)), message, "base64Url");
+    }
+
+    public ValidationEngineCharSequence base64Url() {
+        return base64Url(null);
+    }
+
+    public ValidationEngineCharSequence ulid(String message) {
+        return must((s) -> RuleSet.ulid(chars(s)), message, "ulid");
+    }
+
+    public ValidationEngineCharSequence ulid() {
+        return ulid(null);
+    }
+
+    public ValidationEngineCharSequence epochSeconds(String message) {
+        return must((s) -> RuleSet.epochSeconds(s), message, "epochSeconds");
+    }
+
+    public ValidationEngineCharSequence epochSeconds() {
+        return epochSeconds(null);
+    }
+
+    public ValidationEngineCharSequence epochMillis(String message) {
+        return must((s) -> RuleSet.epochMillis(s), message, "epochMillis");
+    }
+
+    public ValidationEngineCharSequence epochMillis() {
+        return epochMillis(null);
+    }
+
+    /**
+     * Set a timestamp older than the window, or in the future, to be considered as invalid.
+     *
+     * @param window  count and unit such as 7d or 1h, see {@link EpochTime#parseWindow}
+     * @param format  epochSeconds, epochMillis or iso
+     * @param message validation error
+     */
+    public ValidationEngineCharSequence withinPast(String window, String format, String message) {
+        final long windowMillis = EpochTime.parseWindow(window);
+        return must((s) -> RuleSet.withinPast(s, windowMillis, format), message, String.format("withinPast;%s;%s", window, format));
+    }
+
+    public ValidationEngineCharSequence withinPast(String window, String message) {
+        return withinPast(window, IsoDateTime.FORMAT, message);
+    }
+
+    public ValidationEngineCharSequence withinPast(String window) {
+        return withinPast(window, IsoDateTime.FORMAT, null);
+    }
+
+    /**
+     * Set a timestamp further than the window, or in the past, to be considered as invalid.
+     *
+     * @param window  count and unit such as 7d or 1h, see {@link EpochTime#parseWindow}
+     * @param format  epochSeconds, epochMillis or iso
+     * @param message validation error
+     */
+    public ValidationEngineCharSequence withinNext(String window, String format, String message) {
+        final long windowMillis = EpochTime.parseWindow(window);
+        return must((s) -> RuleSet.withinNext(s, windowMillis, format), message, String.format("withinNext;%s;%s", window, format));
+    }
+
+    public ValidationEngineCharSequence withinNext(String window, String message) {
+        return withinNext(window, IsoDateTime.FORMAT, message);
+    }
+
+    public ValidationEngineCharSequence withinNext(String window) {
+        return withinNext(window, IsoDateTime.FORMAT, null);
+    }
+
+    public ValidationEngineCharSequence isInteger(String message) {
+        return must((s) -> RuleSet.isInteger(s), message, "isInteger");
+    }
+
+    public ValidationEngineCharSequence isInteger() {
+        return isInteger(null);
+    }
+
+    public ValidationEngineCharSequence isUInteger(String message) {
+        return must((s) -> RuleSet.isUInteger(s), message, "isUInteger");
+    }
+
+    public ValidationEngineCharSequence isUInteger() {
+        return isUInteger(null);
+    }
+
+    public ValidationEngineCharSequence isLong(String message) {
+        return must((s) -> RuleSet.isLong(s), message, "isLong");
+    }
+
+    public ValidationEngineCharSequence isLong() {
+        return isLong(null);
+    }
+
+    public ValidationEngineCharSequence isULong(String message) {
+        return must((s) -> RuleSet.isULong(s), message, "isULong");
+    }
+
+    public ValidationEngineCharSequence isULong() {
+        return isULong(null);
+    }
+
+    public ValidationEngineCharSequence isDouble(String message) {
+        return must((s) -> RuleSet.isDouble(s), message, "isDouble");
+    }
+
+    public ValidationEngineCharSequence isDouble() {
+        return isDouble(null);
+    }
+
+    public ValidationEngineCharSequence isFloat(String message) {
+        return must((s) -> RuleSet.isFloat(s), message, "isFloat");
+    }
+
+    public ValidationEngineCharSequence isFloat() {
+        return isFloat(null);
+    }
+
+    public ValidationEngineCharSequence min(long min, String message) {
+        return must((s) -> RuleSet.min(s, min), message, String.format("min;%d", min));
+    }
+
+    public ValidationEngineCharSequence min(long min) {
+        return min(min, null);
+    }
+
+    public ValidationEngineCharSequence max(long max, String message) {
+        return must((s) -> RuleSet.max(s, max), message, String.format("max;%d", max));
+    }
+
+    public ValidationEngineCharSequence max(long max) {
+        return max(max, null);
+    }
+
+    public ValidationEngineCharSequence min(int min, String message) {
+        return must((s) -> RuleSet.min(s, min), message, String.format("min;%d", min));
+    }
+
+    public ValidationEngineCharSequence min(int min) {
+        return min(min, null);
+    }
+
+    public ValidationEngineCharSequence max(int max, String message) {
+        return must((s) -> RuleSet.max(s, max), message, String.format("max;%d", max));
+    }
+
+    public ValidationEngineCharSequence max(int max) {
+        return max(max, null);
+    }
+
+    public ValidationEngineCharSequence min(double min, String message) {
+        return must((s) -> RuleSet.min(s, min), message, String.format("min;%.2f", min));
+    }
+
+    public ValidationEngineCharSequence min(double min) {
+        return min(min, null);
+    }
+
+    public ValidationEngineCharSequence max(double max, String message) {
+        return must((s) -> RuleSet.max(s, max), message, String.format("max;%.2f", max));
+    }
+
+    public ValidationEngineCharSequence max(double max) {
+        return max(max, null);
+    }
+
+    public ValidationEngineCharSequence dateFormat(String format, String message) {
+        return must((s) -> RuleSet.dateFormat(s, format), message, String.format("dateFormat;%s", format));
+    }
+
+    public ValidationEngineCharSequence dateFormat(String message) {
+        return must((s) -> RuleSet.dateFormat(s), message, "dateFormat");
+    }
+
+    public ValidationEngineCharSequence dateFormat() {
+        return dateFormat(null);
+    }
+
+    public ValidationEngineCharSequence dateTimeFormat(String format, String message) {
+        return must((s) -> RuleSet.dateTimeFormat(s, format), message, String.format("dateTimeFormat;%s", format));
+    }
+
+    public ValidationEngineCharSequence dateTimeFormat(String message) {
+        return must((s) -> RuleSet.dateTimeFormat(s), message, "dateTimeFormat");
+    }
+
+    public ValidationEngineCharSequence dateTimeFormat() {
+        return dateTimeFormat(null);
+    }
+}
@@ -0,0 +1,155 @@
+package io.zeko.validation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Validation engine for multi-valued parameters, e.g. a repeated query string key (tag=a&amp;tag=b).
+ * <p>
+ * Cardinality rules (minCount, maxCount, count, unique) apply to the list itself while the element rules are
+ * applied to each value in place, so the values never need to be joined and split again with separateBy.
+ */
+public class ValidationEngineList extends ValidationEngine<List<String>, ValidationEngineList> {
+
+    public ValidationEngineList(List<String> value) {
+        super(value);
+    }
+
+    public ValidationEngineList(String fieldName, List<String> value, Note note) {
+        super(fieldName, value, note);
+    }
+
+    public ValidationEngineList(List<String> value, List<String> note) {
+        super(value, note);
+    }
+
+    @Override
+    public ValidationEngineList must(Predicate<List<String>> predicate, String message) {
+        return (ValidationEngineList) super.must(predicate, message);
+    }
+
+    public ValidationEngineList must(Predicate<List<String>> predicate, String message, String validationName) {
+        return (ValidationEngineList) super.must(predicate, message, validationName);
+    }
+
+    public ValidationEngineList minCount(int min, String message) {
+        return must((l) -> RuleSet.minCount(l, min), message, String.format("minCount;%d", min));
+    }
+
+    public ValidationEngineList minCount(int min) {
+        return minCount(min, null);
+    }
+
+    public ValidationEngineList maxCount(int max, String message) {
+        return must((l) -> RuleSet.maxCount(l, max), message, String.format("maxCount;%d", max));
+    }
+
+    public ValidationEngineList maxCount(int max) {
+        return maxCount(max, null);
+    }
+
+    public ValidationEngineList count(int min, int max, String message) {
+        return must((l) -> RuleSet.count(l, min, max), message, String.format("count;%d;%d", min, max));
+    }
+
+    public ValidationEngineList count(int min, int max) {
+        return count(min, max, null);
+    }
+
+    public ValidationEngineList unique(String message) {
+        return must((l) -> RuleSet.unique(l), message, "unique");
+    }
+
+    public ValidationEngineList unique() {
+        return unique(null);
+    }
+
+    /**
+     * Set the list to be considered as invalid if any of its values fails the predicate test.
+     *
+     * @param predicate predicate evaluated against every value
+     * @param message   validation error
+     * @return validation engine
+     */
+    public ValidationEngineList each(Predicate<String> predicate, String message) {
+        return must((l) -> RuleSet.each(l, predicate), message);
+    }
+
+    public ValidationEngineList each(Predicate<String> predicate, String message, String validationName) {
+        return must((l) -> RuleSet.each(l, predicate), message, validationName);
+    }
+
+    public ValidationEngineList inArray(String[] arr, String message) {
+        return each((s) -> RuleSet.inArray(s, arr), message, String.format("inArray;%s", String.join(",", arr)));
+    }
+
+    public ValidationEngineList inArray(String[] arr) {
+        return inArray(arr, null);
+    }
+
+    /**
+     * Applies rules in the format of {@link Validator#parseRules} to each value. Values are checked in order and
+     * the errors of the first invalid value are added to the note, so a long list of bad values reports once.
+     *
+     * @param rules rules for each value, excluding required/optional which apply to the list
+     * @return validation engine
+     */
+    public ValidationEngineList each(Map<String, List<?>> rules) {
+        final List<String> values = getValue();
+        if (values == null || !shouldEvaluate()) {
+            return this;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            CountingNote counter = getNote() == null ? null : new CountingNote(getNote());
+            ValidationEngineString element = counter == null
+                    ? new ValidationEngineString(values.get(i))
+                    : new ValidationEngineString(getFieldName(), values.get(i), counter);
+            element.setFailOnFirst(isFailOnFirst());
+            Validator.invokeCheck(rules, new PreConditionString(element));
+
+            if (counter != null && counter.count > 0) {
+                if (isFailOnFirst()) {
+                    setStopValidation(true);
+                }
+                break;
+            }
+        }
+        return this;
+    }
+
+    private static class CountingNote implements Note {
+        private final Note note;
+        private int count;
+
+        CountingNote(Note note) {
+            this.note = note;
+        }
+
+        @Override
+        public void addMessage(String owner, String message) {
+            count++;
+            note.addMessage(owner, message);
+        }
+
+        @Override
+        public Map<String, List<String>> getMessages() {
+            return note.getMessages();
+        }
+
+        @Override
+        public boolean shouldConvertFieldName() {
+            return note.shouldConvertFieldName();
+        }
+
+        @Override
+        public String getConvertFieldName() {
+            return note.getConvertFieldName();
+        }
+
+        @Override
+        public Map<String, String> getCustomErrorMessages() {
+            return note.getCustomErrorMessages();
+        }
+    }
+}
@@ -34,6 +34,19 @@ public class ValidationEngineString extends ValidationEngine<String, ValidationE
         return (ValidationEngineString) super.must(predicate, message, validationName);
     }
 
+    @Override
+    public ValidationEngineString withBudget(ValidationBudget budget) {
+        return (ValidationEngineString) super.withBudget(budget);
+    }
+
+    /**
+     * @return the value as read by pattern rules, charged to the budget when there is one
+     */
+    private CharSequence chars(String s) {
+        final ValidationBudget budget = getBudget();
+        return budget == null ? s : budget.wrap(s);
+    }
+
     /**
      * Set a value with length greater than the max to be considered as invalid.
      * valid; v.length() less or equal than max
@@ -67,13 +80,29 @@ public class ValidationEngineString extends ValidationEngine<String, ValidationE
     }
 
     public ValidationEngineString regex(String regexExpr, String message) {
-        return must((s) -> RuleSet.regex(s, regexExpr), message, String.format("regex;%s", regexExpr));
+        return must((s) -> RuleSet.regex(chars(s), regexExpr), message, String.format("regex;%s", regexExpr));
     }
 
     public ValidationEngineString regex(String regexExpr) {
         return regex(regexExpr, null);
     }
 
+    /**
+     * Same as {@link #regex} but matched by {@link LinearRegex}, which bounds the match time for expressions from
+     * untrusted configuration.
+     *
+     * @param regexExpr regular expression the whole value must match
+     * @param message   validation error
+     * @return validation engines
+     */
+    public ValidationEngineString regexLinear(String regexExpr, String message) {
+        return must((s) -> RuleSet.regexLinear(chars(s), regexExpr), message, String.format("regexLinear;%s", regexExpr));
+    }
+
+    public ValidationEngineString regexLinear(String regexExpr) {
+        return regexLinear(regexExpr, null);
+    }
+
     /**
      * Convenience method for defining max and min lengths
      * <p>
@@ -356,15 +385,19 @@ public class ValidationEngineString extends ValidationEngine<String, ValidationE
     }
 
     public ValidationEngineString email(String message) {
-        return must((s) -> RuleSet.email(s), message, new Object(){}.getClass().getEnclosingMethod().getName());
+        return must((s) -> RuleSet.email(chars(s)), message, new Object(){}.getClass().getEnclosingMethod().getName());
     }
 
     public ValidationEngineString email() {
         return email(null);
     }
 
+    public ValidationEngineString email(EmailParser.Strictness strictness, String message) {
+        return must((s) -> RuleSet.email(chars(s), strictness), message, String.format("email;%s", strictness.name().toLowerCase()));
+    }
+
     public ValidationEngineString url(String[] schemes, String message) {
-        return must((s) -> RuleSet.url(s, schemes), message, String.format("passwordSimple;%s", String.join(";", schemes)));
+        return must((s) -> RuleSet.url(chars(s), schemes), message, String.format("url;%s", String.join(";", schemes)));
     }
 
     public ValidationEngineString url(String[] schemes) {
@@ -372,7 +405,7 @@ public class ValidationEngineString extends ValidationEngine<String, ValidationE
     }
 
     public ValidationEngineString url(String message) {
-        return must((s) -> RuleSet.url(s), message, new Object(){}.getClass().getEnclosingMethod().getName());
+        return must((s) -> RuleSet.url(chars(s)), message, new Object(){}.getClass().getEnclosingMethod().getName());
     }
 
     public ValidationEngineString url() {
@@ -380,15 +413,55 @@ public class ValidationEngineString extends ValidationEngine<String, ValidationE
     }
 
     public ValidationEngineString ipv4(String message) {
-        return must((s) -> RuleSet.ipv4(s), message, new Object(){}.getClass().getEnclosingMethod().getName());
+        return must((s) -> RuleSet.ipv4(chars(s)), message, new Object(){}.getClass().getEnclosingMethod().getName());
     }
 
     public ValidationEngineString ipv4() {
         return ipv4(null);
     }
 
+    public ValidationEngineString ipv6(String message) {
+        return must((s) -> RuleSet.ipv6(chars(s)), message, new Object(){}.getClass().getEnclosingMethod().getName());
+    }
+
+    public ValidationEngineString ipv6() {
+        return ipv6(null);
+    }
+
+    public ValidationEngineString ip(String message) {
+        return must((s) -> RuleSet.ip(chars(s)), message, new Object(){}.getClass().getEnclosingMethod().getName());
+    }
+
+    public ValidationEngineString ip() {
+        return ip(null);
+    }
+
+    public ValidationEngineString cidr(String message) {
+        return must((s) -> RuleSet.cidr(chars(s)), message, new Object(){}.getClass().getEnclosingMethod().getName());
+    }
+
+    public ValidationEngineString cidr() {
+        return cidr(null);
+    }
+
+    public ValidationEngineString ipInRanges(IpRangeSet ranges, String message) {
+        return must((s) -> RuleSet.ipInRanges(chars(s), ranges), message, "ipInRanges");
+    }
+
+    public ValidationEngineString ipInRanges(IpRangeSet ranges) {
+        return ipInRanges(ranges, null);
+    }
+
+    public ValidationEngineString ipNotInRanges(IpRangeSet ranges, String message) {
+        return must((s) -> RuleSet.ipNotInRanges(chars(s), ranges), message, "ipNotInRanges");
+    }
+
+    public ValidationEngineString ipNotInRanges(IpRangeSet ranges) {
+        return ipNotInRanges(ranges, null);
+    }
+
     public ValidationEngineString hostName(String message) {
-        return must((s) -> RuleSet.hostName(s), message, new Object(){}.getClass().getEnclosingMethod().getName());
+        return must((s) -> RuleSet.hostName(chars(s)), message, new Object(){}.getClass().getEnclosingMethod().getName());
     }
 
     public ValidationEngineString hostName() {
@@ -396,7 +469,7 @@ public class ValidationEngineString extends ValidationEngine<String, ValidationE
     }
 
     public ValidationEngineString serverName(String message) {
-        return must((s) -> RuleSet.serverName(s), message, new Object(){}.getClass().getEnclosingMethod().getName());
+        return must((s) -> RuleSet.serverName(chars(s)), message, new Object(){}.getClass().getEnclosingMethod().getName());
     }
 
     public ValidationEngineString serverName() {
@@ -404,7 +477,7 @@ public class ValidationEngineString extends ValidationEngine<String, ValidationE
     }
 
     public ValidationEngineString subdomain(int allowLevels, String message) {
-        return must((s) -> RuleSet.subdomain(s, allowLevels), message, String.format("subdomain;%d", allowLevels));
+        return must((s) -> RuleSet.subdomain(chars(s), allowLevels), message, String.format("subdomain;%d", allowLevels));
     }
 
     public ValidationEngineString subdomain(int allowLevels) {
@@ -412,13 +485,25 @@ public class ValidationEngineString extends ValidationEngine<String, ValidationE
     }
 
     public ValidationEngineString subdomain(String message) {
-        return must((s) -> RuleSet.subdomain(s), message, new Object(){}.getClass().getEnclosingMethod().getName());
+        return must((s) -> RuleSet.subdomain(chars(s), 1), message, new Object(){}.getClass().getEnclosingMethod().getName());
     }
 
     public ValidationEngineString subdomain() {
         return subdomain(null);
     }
 
+    public ValidationEngineString domain(boolean knownTld, String message) {
+        return must((s) -> RuleSet.domain(chars(s), knownTld), message, knownTld ? "domain;knownTld" : "domain");
+    }
+
+    public ValidationEngineString domain(String message) {
+        return domain(false, message);
+    }
+
+    public ValidationEngineString domain() {
+        return domain(false, null);
+    }
+
     public ValidationEngineString colorHex(String message) {
         return must((s) -> RuleSet.colorHex(s), message, new Object(){}.getClass().getEnclosingMethod().getName());
     }
@@ -427,6 +512,118 @@ public class ValidationEngineString extends ValidationEngine<String, ValidationE
         return colorHex(null);
     }
 
+    public ValidationEngineString uuid(int version, String message) {
+        return must((s) -> RuleSet.uuid(chars(s), version), message, String.format("uuid;%d", version));
+    }
+
+    public ValidationEngineString uuid(int version) {
+        return uuid(version, null);
+    }
+
+    public ValidationEngineString uuid(String message) {
+        return must((s) -> RuleSet.uuid(chars(s)), message, new Object(){}.getClass().getEnclosingMethod().getName());
+    }
+
+    public ValidationEngineString uuid() {
+        return uuid(null);
+    }
+
+    public ValidationEngineString hex(int length, String message) {
+        return must((s) -> RuleSet.hex(chars(s), length), message, String.format("hex;%d", length));
+    }
+
+    public ValidationEngineString hex(int length) {
+        return hex(length, null);
+    }
+
+    public ValidationEngineString hex(String message) {
+        return must((s) -> RuleSet.hex(chars(s)), message, new Object(){}.getClass().getEnclosingMethod().getName());
+    }
+
+    public ValidationEngineString hex() {
+        return hex(null);
+    }
+
+    public ValidationEngineString base64(String message) {
+        return must((s) -> RuleSet.base64(chars(s)), message, new Object(){}.getClass().getEnclosingMethod().getName());
+    }
+
+    public ValidationEngineString base64() {
+        return base64(null);
+    }
+
+    public ValidationEngineString base64Url(String message) {
+        return must((s) -> RuleSet.base64Url(chars(s)), message, new Object(){}.getClass().getEnclosingMethod().getName());
+    }
+
+    public ValidationEngineString base64Url() {
+        return base64Url(null);
+    }
+
+    public ValidationEngineString ulid(String message) {
+        return must((s) -> RuleSet.ulid(chars(s)), message, new Object(){}.getClass().getEnclosingMethod().getName());
+    }
+
+    public ValidationEngineString ulid() {
+        return ulid(null);
+    }
+
+    public ValidationEngineString epochSeconds(String message) {
+        return must((s) -> RuleSet.epochSeconds(s), message, new Object(){}.getClass().getEnclosingMethod().getName());
+    }
+
+    public ValidationEngineString epochSeconds() {
+        return epochSeconds(null);
+    }
+
+    public ValidationEngineString epochMillis(String message) {
+        return must((s) -> RuleSet.epochMillis(s), message, new Object(){}.getClass().getEnclosingMethod().getName());
+    }
+
+    public ValidationEngineString epochMillis() {
+        return epochMillis(null);
+    }
+
+    /**
+     * Set a timestamp older than the window, or in the future, to be considered as invalid.
+     *
+     * @param window  count and unit such as 7d or 1h, see {@link EpochTime#parseWindow}
+     * @param format  epochSeconds, epochMillis or iso
+     * @param message validation error
+     */
+    public ValidationEngineString withinPast(String window, String format, String message) {
+        final long windowMillis = EpochTime.parseWindow(window);
+        return must((s) -> RuleSet.withinPast(s, windowMillis, format), message, String.format("withinPast;%s;%s", window, format));
+    }
+
+    public ValidationEngineString withinPast(String window, String message) {
+        return withinPast(window, IsoDateTime.FORMAT, message);
+    }
+
+    public ValidationEngineString withinPast(String window) {
+        return withinPast(window, IsoDateTime.FORMAT, null);
+    }
+
+    /**
+     * Set a timestamp further than the window, or in the past, to be considered as invalid.
+     *
+     * @param window  count and unit such as 7d or 1h, see {@link EpochTime#parseWindow}
+     * @param format  epochSeconds, epochMillis or iso
+     * @param message validation error
+     */
+    public ValidationEngineString withinNext(String window, String format, String message) {
+        final long windowMillis = EpochTime.parseWindow(window);
+        return must((s) -> RuleSet.withinNext(s, windowMillis, format), message, String.format("withinNext;%s;%s", window, format));
+    }
+
+    public ValidationEngineString withinNext(String window, String message) {
+        return withinNext(window, IsoDateTime.FORMAT, message);
+    }
+
+    public ValidationEngineString withinNext(String window) {
+        return withinNext(window, IsoDateTime.FORMAT, null);
+    }
+
     public ValidationEngineString isNumber(String message) {
         return must((s) -> RuleSet.isNumber(s), message, new Object(){}.getClass().getEnclosingMethod().getName());
     }
@@ -1059,7 +1256,7 @@ public class ValidationEngineString extends ValidationEngine<String, ValidationE
     }
 
     public ValidationEngineString dateTimeFormat(String format, String message) {
-        return must((s) -> RuleSet.dateTimeFormat(s, format), message, String.format("dateTimeFormat;%s;%s", format));
+        return must((s) -> RuleSet.dateTimeFormat(s, format), message, String.format("dateTimeFormat;%s", format));
     }
 
     public ValidationEngineString dateTimeFormat(String message) {
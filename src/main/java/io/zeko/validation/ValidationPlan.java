@@ -0,0 +1,172 @@
+package io.zeko.validation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rules of a whole form, parsed once and reused for every input.
+ * <p>
+ * rules example: ValidationPlan.compile(Map.of("email", "required, email", "age", "isInteger, min;18"))
+ * <p>
+ * The character-level rules of a field, such as alphaNum, length or regexLinear, are fused with {@link FusedRules} so
+ * the value is scanned once for all of them. They are checked after the other rules of the field.
+ */
+public class ValidationPlan {
+    private final String[] fieldNames;
+    private final Map<String, List<?>>[] fieldRules;
+    private final FusedRules[] fusedRules;
+    private final String convertFieldName;
+    private final Map<String, String> customErrorMessages;
+
+    /**
+     * @param rules               rules per field as returned by {@link Validator#parseRules}
+     * @param convertFieldName    placeholder replaced by the field name in messages, see {@link Notification}
+     * @param customErrorMessages error message per rule name
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ValidationPlan(Map<String, ? extends Map<String, ? extends List<?>>> rules, String convertFieldName, Map<String, String> customErrorMessages) {
+        this.fieldNames = new String[rules.size()];
+        this.fieldRules = new Map[rules.size()];
+        this.fusedRules = new FusedRules[rules.size()];
+        this.convertFieldName = convertFieldName;
+        this.customErrorMessages = customErrorMessages;
+
+        int i = 0;
+        for (Map.Entry<String, ? extends Map<String, ? extends List<?>>> entry : rules.entrySet()) {
+            fieldNames[i] = entry.getKey();
+            fieldRules[i] = new LinkedHashMap<>(entry.getValue());
+            fusedRules[i] = new FusedRules(fieldRules[i]);
+            i++;
+        }
+    }
+
+    public ValidationPlan(Map<String, ? extends Map<String, ? extends List<?>>> rules) {
+        this(rules, null, null);
+    }
+
+    /**
+     * Parses the rule string of every field.
+     *
+     * @param ruleStrings         rule string per field, e.g. "required, length;2;12, alphaNum"
+     * @param convertFieldName    placeholder replaced by the field name in messages, see {@link Notification}
+     * @param customErrorMessages error message per rule name
+     * @return plan
+     */
+    public static ValidationPlan compile(Map<String, String> ruleStrings, String convertFieldName, Map<String, String> customErrorMessages) {
+        Map<String, Map<String, List<Object>>> rules = new LinkedHashMap<>();
+        ruleStrings.forEach((field, ruleStr) -> rules.put(field, Validator.parseRules(ruleStr)));
+        return new ValidationPlan(rules, convertFieldName, customErrorMessages);
+    }
+
+    public static ValidationPlan compile(Map<String, String> ruleStrings) {
+        return compile(ruleStrings, null, null);
+    }
+
+    /**
+     * Validates every field of the plan in Note-All mode.
+     *
+     * @param input source of the field values
+     * @return new note holding the errors
+     */
+    public Notification validate(FieldSource input) {
+        return validate(input, newNote(), false);
+    }
+
+    public Notification validate(Map<String, String> input) {
+        return validate(input::get, newNote(), false);
+    }
+
+    /**
+     * Validates every field of the plan.
+     *
+     * @param input       source of the field values
+     * @param note        note where the errors are gathered
+     * @param failOnFirst true for Note-First mode, false for Note-All mode
+     * @return the note
+     */
+    public Notification validate(FieldSource input, Notification note, boolean failOnFirst) {
+        return validate(input, note, failOnFirst, null);
+    }
+
+    /**
+     * Validates every field of the plan within a budget. Each field runs with {@link ValidationBudget#forField()}, so
+     * a field that runs out fails with the "budgetExceeded" rule and, once the form budget is spent, so do the rest.
+     *
+     * @param input       source of the field values
+     * @param note        note where the errors are gathered
+     * @param failOnFirst true for Note-First mode, false for Note-All mode
+     * @param budget      budget of the whole form, null for no limit
+     * @return the note
+     */
+    public Notification validate(FieldSource input, Notification note, boolean failOnFirst, ValidationBudget budget) {
+        for (int i = 0; i < fieldNames.length; i++) {
+            PreConditionString preCond = failOnFirst
+                    ? NoteFirstValidator.valid(input, fieldNames[i], note)
+                    : NoteAllValidator.valid(input, fieldNames[i], note);
+            if (budget != null) {
+                preCond.withBudget(budget.forField());
+            }
+            fusedRules[i].apply(Validator.invokeCheck(fusedRules[i].getRemaining(), preCond));
+        }
+        return note;
+    }
+
+    /**
+     * Runs {@link RegexAnalyzer} over the expression of every regex rule of the plan, and of every regexLinear rule
+     * that is not supported by {@link LinearRegex}.
+     *
+     * @return report per field that has a regex rule
+     */
+    public Map<String, RegexReport> analyzeRegex() {
+        final Map<String, RegexReport> reports = new LinkedHashMap<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            final List<?> args = fieldRules[i].get("regex");
+            final List<?> linearArgs = fieldRules[i].get("regexLinear");
+            if (args != null && !args.isEmpty()) {
+                reports.put(fieldNames[i], RegexAnalyzer.analyze(String.valueOf(args.get(0))));
+            } else if (linearArgs != null && !linearArgs.isEmpty() && !LinearRegex.compile(String.valueOf(linearArgs.get(0))).isLinear()) {
+                // only expressions outside the linear subset fall back to backtracking
+                reports.put(fieldNames[i], RegexAnalyzer.analyze(String.valueOf(linearArgs.get(0))));
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * Rejects the plan when a regex rule is prone to catastrophic backtracking, meant to run before the rules are
+     * deployed, e.g. ValidationPlan.compile(tenantRules).requireSafeRegex().
+     *
+     * @return this plan
+     * @throws IllegalArgumentException listing the fields and findings of the unsafe expressions
+     */
+    public ValidationPlan requireSafeRegex() {
+        final StringBuilder unsafe = new StringBuilder();
+        analyzeRegex().forEach((field, report) -> {
+            if (report.isCatastrophic()) {
+                unsafe.append(unsafe.length() == 0 ? "" : "; ").append(field).append(": ").append(report.getFindings());
+            }
+        });
+        if (unsafe.length() > 0) {
+            throw new IllegalArgumentException("Unsafe regex rules: " + unsafe);
+        }
+        return this;
+    }
+
+    public Notification newNote() {
+        return new Notification(convertFieldName, customErrorMessages);
+    }
+
+    public String[] getFieldNames() {
+        return fieldNames.clone();
+    }
+
+    public Map<String, List<?>> getRules(String fieldName) {
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (fieldNames[i].equals(fieldName)) {
+                return fieldRules[i];
+            }
+        }
+        return null;
+    }
+}
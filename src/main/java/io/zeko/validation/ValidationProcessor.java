@@ -0,0 +1,249 @@
+package io.zeko.validation;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Validates the records of an upstream publisher against a {@link ValidationPlan}.
+ * <p>
+ * Records are only requested from the upstream when the downstream has demand for their results, and never more
+ * than the parallelism at a time, so a slow subscriber slows the upstream down instead of filling a buffer. Up to
+ * parallelism records are validated concurrently on the executor. In ordered mode results are emitted in upstream
+ * order through a fixed reorder window, in unordered mode as soon as they are ready.
+ * <p>
+ * With a parallelism of 1 records are validated on the thread that delivers them. Only one subscriber is supported. A
+ * record whose validation throws is emitted as an invalid result holding the exception, and the stream goes on.
+ * <p>
+ * publisher.subscribe(new ValidationProcessor(plan, 8, true));
+ */
+public class ValidationProcessor implements Flow.Processor<Map<String, String>, ValidationResult> {
+
+    private final ValidationPlan plan;
+    private final int parallelism;
+    private final boolean ordered;
+    private final boolean failOnFirst;
+    private final Executor executor;
+
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicReferenceArray<ValidationResult> window;
+    private final ConcurrentLinkedQueue<ValidationResult> ready;
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super ValidationResult> downstream;
+    private volatile boolean upstreamDone;
+    private volatile Throwable error;
+    private volatile boolean cancelled;
+
+    // sequence of the next record received, only touched by onNext which the upstream calls serially
+    private long received;
+    // only touched inside drain
+    private long emitted;
+    private int outstanding;
+    private boolean terminated;
+
+    /**
+     * @param plan        rules applied to every record
+     * @param parallelism records validated at the same time, also the number of records requested ahead
+     * @param ordered     true to emit results in upstream order
+     * @param failOnFirst true for Note-First mode, false for Note-All mode
+     * @param executor    runs the validations when parallelism is above 1
+     */
+    public ValidationProcessor(ValidationPlan plan, int parallelism, boolean ordered, boolean failOnFirst, Executor executor) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.plan = Objects.requireNonNull(plan);
+        this.parallelism = parallelism;
+        this.ordered = ordered;
+        this.failOnFirst = failOnFirst;
+        this.executor = Objects.requireNonNull(executor);
+        this.window = ordered ? new AtomicReferenceArray<>(parallelism) : null;
+        this.ready = ordered ? null : new ConcurrentLinkedQueue<>();
+    }
+
+    public ValidationProcessor(ValidationPlan plan, int parallelism, boolean ordered) {
+        this(plan, parallelism, ordered, false, ForkJoinPool.commonPool());
+    }
+
+    public ValidationProcessor(ValidationPlan plan) {
+        this(plan, 1, true);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ValidationResult> subscriber) {
+        Objects.requireNonNull(subscriber);
+        synchronized (this) {
+            if (downstream != null) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    public void request(long n) { }
+                    public void cancel() { }
+                });
+                subscriber.onError(new IllegalStateException("ValidationProcessor supports a single subscriber"));
+                return;
+            }
+            downstream = subscriber;
+        }
+
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    error = new IllegalArgumentException("request must be positive, got " + n);
+                    upstreamDone = true;
+                    Flow.Subscription s = upstream;
+                    if (s != null) {
+                        s.cancel();
+                    }
+                } else {
+                    requested.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                Flow.Subscription s = upstream;
+                if (s != null) {
+                    s.cancel();
+                }
+            }
+        });
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        if (cancelled) {
+            subscription.cancel();
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(Map<String, String> record) {
+        final long sequence = received++;
+        pending.incrementAndGet();
+
+        if (parallelism == 1) {
+            validate(sequence, record);
+        } else {
+            executor.execute(() -> validate(sequence, record));
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+        upstreamDone = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        drain();
+    }
+
+    private void validate(long sequence, Map<String, String> record) {
+        if (cancelled) {
+            return;
+        }
+        ValidationResult result;
+        final Notification note = plan.newNote();
+        try {
+            result = new ValidationResult(sequence, record, plan.validate(record::get, note, failOnFirst));
+        } catch (RuntimeException err) {
+            // one bad record must not end the stream, it is emitted as invalid with the exception
+            result = new ValidationResult(sequence, record, note, err);
+        }
+
+        if (ordered) {
+            window.set((int) (sequence % parallelism), result);
+        } else {
+            ready.offer(result);
+        }
+        drain();
+    }
+
+    private ValidationResult poll() {
+        if (!ordered) {
+            return ready.poll();
+        }
+        final int slot = (int) (emitted % parallelism);
+        ValidationResult result = window.get(slot);
+        if (result != null) {
+            window.set(slot, null);
+        }
+        return result;
+    }
+
+    /**
+     * Emits the ready results and requests more records, serialized so the downstream is signalled by one thread at a time.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            final Flow.Subscriber<? super ValidationResult> subscriber = downstream;
+            final Flow.Subscription s = upstream;
+
+            if (subscriber != null && !terminated) {
+                if (cancelled) {
+                    terminated = true;
+                } else {
+                    final long demand = requested.get();
+                    long sent = 0;
+                    ValidationResult result;
+
+                    while (emitted < demand && error == null && (result = poll()) != null) {
+                        emitted++;
+                        sent++;
+                        pending.decrementAndGet();
+                        subscriber.onNext(result);
+                        if (cancelled) {
+                            break;
+                        }
+                    }
+                    outstanding -= sent;
+
+                    if (cancelled) {
+                        terminated = true;
+                    } else if (upstreamDone && (error != null || pending.get() == 0)) {
+                        terminated = true;
+                        if (error != null) {
+                            subscriber.onError(error);
+                        } else {
+                            subscriber.onComplete();
+                        }
+                    } else if (s != null && !upstreamDone) {
+                        final long want = Math.min(parallelism - outstanding, demand - emitted - outstanding);
+                        if (want > 0) {
+                            outstanding += want;
+                            s.request(want);
+                        }
+                    }
+                }
+            }
+
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
@@ -0,0 +1,54 @@
+package io.zeko.validation;
+
+import java.util.Map;
+
+/**
+ * Outcome of validating one record of a stream, see {@link ValidationProcessor}.
+ */
+public class ValidationResult {
+
+    private final long sequence;
+    private final Map<String, String> record;
+    private final Notification note;
+    private final RuntimeException error;
+
+    public ValidationResult(long sequence, Map<String, String> record, Notification note) {
+        this(sequence, record, note, null);
+    }
+
+    /**
+     * @param error exception thrown while validating the record, null when the validation ran
+     */
+    public ValidationResult(long sequence, Map<String, String> record, Notification note, RuntimeException error) {
+        this.sequence = sequence;
+        this.record = record;
+        this.note = note;
+        this.error = error;
+    }
+
+    /**
+     * @return position of the record in the upstream, starting from 0
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Map<String, String> getRecord() {
+        return record;
+    }
+
+    public Notification getNote() {
+        return note;
+    }
+
+    /**
+     * @return exception thrown while validating the record, null when the validation ran
+     */
+    public RuntimeException getError() {
+        return error;
+    }
+
+    public boolean isValid() {
+        return error == null && !note.isNotEmpty();
+    }
+}
@@ -80,6 +80,68 @@ public class Validator {
         return invokeCheck(rules, preCond);
     }
 
+    public ValidationEngineString checkAll(FieldSource input, String fieldName) {
+        PreConditionString preCond = NoteAllValidator.valid(input, fieldName, note);
+        return invokeCheck(rules, preCond);
+    }
+
+    public ValidationEngineString check(FieldSource input, String fieldName) {
+        PreConditionString preCond = NoteFirstValidator.valid(input, fieldName, note);
+        return invokeCheck(rules, preCond);
+    }
+
+    public ValidationEngineList checkAllValues(Map<String, List<String>> input, String fieldName) {
+        PreConditionList preCond = NoteAllValidator.validList(input, fieldName, note);
+        return invokeCheckList(rules, preCond);
+    }
+
+    public ValidationEngineList checkValues(Map<String, List<String>> input, String fieldName) {
+        PreConditionList preCond = NoteFirstValidator.validList(input, fieldName, note);
+        return invokeCheckList(rules, preCond);
+    }
+
+    public ValidationEngineList checkAllValues(FieldSource input, String fieldName) {
+        PreConditionList preCond = NoteAllValidator.validList(input, fieldName, note);
+        return invokeCheckList(rules, preCond);
+    }
+
+    public ValidationEngineList checkValues(FieldSource input, String fieldName) {
+        PreConditionList preCond = NoteFirstValidator.validList(input, fieldName, note);
+        return invokeCheckList(rules, preCond);
+    }
+
+    /**
+     * Applies rules to a multi-valued field. required, requiredLoose and optional apply to the list,
+     * minCount, maxCount, count and unique check the number of values, and every other rule is applied to each value.
+     */
+    public static ValidationEngineList invokeCheckList(Map<String, List<?>> rules, PreConditionList field) {
+        ValidationEngineList validate;
+        if (rules.containsKey("required") || rules.containsKey("requiredLoose")) {
+            validate = field.required();
+        } else {
+            validate = field.optional();
+        }
+
+        Map<String, List<?>> elementRules = new HashMap<>();
+        rules.forEach((ruleName, args) -> {
+            if (ruleName.equals("required") || ruleName.equals("requiredLoose") || ruleName.equals("optional")) {
+                return;
+            }
+            if (ruleName.equals("unique")) {
+                validate.unique();
+            } else if (ruleName.equals("minCount") || ruleName.equals("maxCount") || ruleName.equals("count")) {
+                invoke(validate, ruleName, args);
+            } else {
+                elementRules.put(ruleName, args);
+            }
+        });
+
+        if (!elementRules.isEmpty()) {
+            validate.each(elementRules);
+        }
+        return validate;
+    }
+
     public static ValidationEngineString invokeCheck(Map<String, List<?>> rules, PreConditionString field) {
         ValidationEngineString validate;
         if (rules.containsKey("required")) {
@@ -118,6 +180,31 @@ public class Validator {
                         validate.url(schemes);
                     }
                 }
+                else if ((ruleName.equals("ipInRanges") || ruleName.equals("ipNotInRanges")) && args.size() > 0) {
+                    List<String> blocks = new ArrayList<>();
+                    args.forEach(arg -> blocks.add(String.valueOf(arg)));
+                    IpRangeSet ranges = IpRangeSet.cached(blocks);
+                    if (ruleName.equals("ipInRanges")) {
+                        validate.ipInRanges(ranges);
+                    } else {
+                        validate.ipNotInRanges(ranges);
+                    }
+                }
+                else if (ruleName.equals("email") && args.size() > 0) {
+                    validate.email(EmailParser.Strictness.of((String) args.get(0)), null);
+                }
+                else if ((ruleName.equals("withinPast") || ruleName.equals("withinNext")) && args.size() > 0) {
+                    String window = String.valueOf(args.get(0));
+                    String format = args.size() > 1 ? String.valueOf(args.get(1)) : IsoDateTime.FORMAT;
+                    if (ruleName.equals("withinPast")) {
+                        validate.withinPast(window, format, null);
+                    } else {
+                        validate.withinNext(window, format, null);
+                    }
+                }
+                else if (ruleName.equals("domain") && args.size() > 0) {
+                    validate.domain("knownTld".equals(args.get(0)), null);
+                }
                 else if (ruleName.equals("separateByInArray") && args.size() > 0) {
                     if (args.get(0) instanceof String) {
                         String delimiter = (String) args.get(0);
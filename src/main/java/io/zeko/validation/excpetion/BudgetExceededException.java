@@ -0,0 +1,12 @@
+package io.zeko.validation.excpetion;
+
+/**
+ * Thrown when the validation of a value runs past its {@link io.zeko.validation.ValidationBudget}.
+ */
+public class BudgetExceededException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public BudgetExceededException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,92 @@
+package io.zeko.validation;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Java 21 layer of the multi-release JAR: long values are classified for {@link AsciiClass} a whole vector of chars
+ * at a time. The Vector API is an incubator module, so this is used only when the application runs with
+ * --add-modules jdk.incubator.vector; otherwise {@link AsciiClass#scan} keeps its char loop.
+ */
+final class AsciiClassVector {
+    /** values shorter than this are not worth the bulk scan */
+    static final int MIN_LENGTH = 256;
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private AsciiClassVector() {
+    }
+
+    static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    static int scan(String s) {
+        return Scanner.scan(s);
+    }
+
+    /**
+     * Holds every reference to the incubator classes, so they are only loaded when the module is present.
+     */
+    private static final class Scanner {
+        private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+        private static final int CHUNK = MIN_LENGTH;
+
+        static int scan(String s) {
+            final int length = s.length();
+            // chunk buffer of this scan only, no state is kept per thread
+            final char[] buffer = new char[Math.min(CHUNK, length)];
+            int seen = 0;
+            for (int offset = 0; offset < length; offset += CHUNK) {
+                final int size = Math.min(CHUNK, length - offset);
+                s.getChars(offset, offset + size, buffer, 0);
+                final int bound = SPECIES.loopBound(size);
+                int i = 0;
+                for (; i < bound; i += SPECIES.length()) {
+                    final ShortVector chars = ShortVector.fromCharArray(SPECIES, buffer, i);
+                    if (chars.compare(VectorOperators.UNSIGNED_GE, (short) 128).anyTrue()) {
+                        seen |= scanChars(buffer, i, i + SPECIES.length());
+                        continue;
+                    }
+                    final VectorMask<Short> lower = range(chars, 'a', 'z');
+                    final VectorMask<Short> upper = range(chars, 'A', 'Z');
+                    final VectorMask<Short> digit = range(chars, '0', '9');
+                    final VectorMask<Short> space = chars.compare(VectorOperators.EQ, (short) ' ');
+                    if (!lower.or(upper).or(digit).or(space).allTrue()) {
+                        // punctuation and control chars are rare in long values, classify them one by one
+                        seen |= scanChars(buffer, i, i + SPECIES.length());
+                        continue;
+                    }
+                    if (lower.anyTrue()) {
+                        seen |= AsciiClass.LOWER;
+                    }
+                    if (upper.anyTrue()) {
+                        seen |= AsciiClass.UPPER;
+                    }
+                    if (digit.anyTrue()) {
+                        seen |= AsciiClass.DIGIT;
+                    }
+                    if (space.anyTrue()) {
+                        seen |= AsciiClass.SPACE_OTHER;
+                    }
+                }
+                seen |= scanChars(buffer, i, size);
+            }
+            return seen;
+        }
+
+        private static VectorMask<Short> range(ShortVector chars, char lo, char hi) {
+            return chars.compare(VectorOperators.GE, (short) lo).and(chars.compare(VectorOperators.LE, (short) hi));
+        }
+
+        private static int scanChars(char[] chars, int from, int to) {
+            int seen = 0;
+            for (int i = from; i < to; i++) {
+                seen |= AsciiClass.of(chars[i]);
+            }
+            return seen;
+        }
+    }
+}
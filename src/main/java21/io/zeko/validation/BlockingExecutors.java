@@ -0,0 +1,25 @@
+package io.zeko.validation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Java 21 layer of the multi-release JAR: each blocking rule runs on its own virtual thread, so blocking custom
+ * rules do not need a dedicated platform thread pool.
+ */
+final class BlockingExecutors {
+
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("zeko-validator-blocking-", 1).factory());
+
+    private BlockingExecutors() {
+    }
+
+    static ExecutorService executor() {
+        return EXECUTOR;
+    }
+
+    static boolean isVirtual() {
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+package io.zeko.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LinearRegexTest {
+    private static final String[] INPUTS = {
+            "", "a", "b", "ab", "abb", "abbb", "abab", "ababab", "aab", "a.", "a..", "a.a.", "ac", "abc", "abbc", "ababc",
+            "x", "xx", "a b", "a bb", "a b b", "a+b", "-", "z", "A", "aB"
+    };
+
+    /**
+     * Matches every input with both engines, the expression must be matched by the automaton and not fall back
+     */
+    private static void assertSameAsPattern(String regex) {
+        final LinearRegex linear = LinearRegex.compile(regex);
+        assertTrue(linear.isLinear(), regex + " is linear");
+        final Pattern pattern = Pattern.compile(regex);
+        for (String input : INPUTS) {
+            assertEquals(pattern.matcher(input).matches(), linear.matches(input), regex + " on '" + input + "'");
+        }
+    }
+
+    @Test
+    void quantifierAfterQuoteRepeatsLastChar() {
+        assertSameAsPattern("\\Qab\\E*");
+        assertSameAsPattern("\\Qab\\E+");
+        assertSameAsPattern("\\Qab\\E?");
+        assertSameAsPattern("\\Qab\\E{2,3}");
+        assertSameAsPattern("\\Qab\\E{2}");
+        assertSameAsPattern("\\Qab\\E{1,}");
+        assertSameAsPattern("\\Qa.\\E*");
+        assertSameAsPattern("\\Qa.\\E+");
+        assertSameAsPattern("\\Qab\\E+?c");
+        assertSameAsPattern("(?i)\\Qab\\E+");
+        assertSameAsPattern("(?x)\\Qa b\\E +");
+        assertSameAsPattern("\\Qa\\E\\Qb\\E*");
+        assertSameAsPattern("(\\Qab\\E)+");
+    }
+
+    @Test
+    void quoteWithoutQuantifier() {
+        assertSameAsPattern("\\Qa+b\\E");
+        assertSameAsPattern("\\Qa+b");
+        assertSameAsPattern("\\Qa.\\E");
+        assertSameAsPattern("[\\Qa-z\\E]+");
+    }
+
+    @Test
+    void quantifierAfterEmptyQuoteFallsBack() {
+        final LinearRegex linear = LinearRegex.compile("a\\Q\\E+");
+        assertFalse(linear.isLinear());
+        assertTrue(linear.matches("aa"));
+        assertFalse(linear.matches(""));
+    }
+}
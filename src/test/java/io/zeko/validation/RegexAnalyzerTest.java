@@ -0,0 +1,71 @@
+package io.zeko.validation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegexAnalyzerTest {
+    private static final String[] CATASTROPHIC = {
+            "^(([a-z])+.)+[A-Z]([a-z])+$",
+            "^(a+.)+b\\1$",
+            "(a+)+b",
+            "(a*)*b",
+            "([a-zA-Z]+)*$",
+            "(a|a?)+b",
+            "(x+x+)+y",
+            "^(\\w+\\s?)*$",
+            "(.*a){12}",
+            "([^x]+[a-z])+x",
+            "(a|aa)+",
+            "(\\w|a)*",
+            "(a|ab|b)*c",
+            "(ab|ba|a)*",
+            "(x{1,3})*y"
+    };
+
+    private static final String[] SAFE = {
+            "^[a-z]+$",
+            "(ab|a)*c",
+            "(a|ab)*c",
+            "(a+b)+",
+            "(ab?)*",
+            "(\\d{3}-?)+",
+            "^\\d{3}-\\d{4}$",
+            "^([a-z0-9]+\\.)+[a-z]{2,6}$",
+            "^((([a-z0-9]{1}[a-z0-9\\-]{0,62}[a-z0-9]{1})|[a-z])\\.)+[a-z]{2,6}$",
+            "^(?>a+)+b$",
+            "(a++)+b",
+            "^#([0-9a-fA-F]{1,2}){3}$"
+    };
+
+    @Test
+    void reportsCatastrophicPatterns() {
+        for (String regex : CATASTROPHIC) {
+            final RegexReport report = RegexAnalyzer.analyze(regex);
+            assertTrue(report.isCatastrophic(), regex + " " + report.getFindings());
+        }
+    }
+
+    @Test
+    void acceptsSafePatterns() {
+        for (String regex : SAFE) {
+            final RegexReport report = RegexAnalyzer.analyze(regex);
+            assertFalse(report.isCatastrophic(), regex + " " + report.getFindings());
+        }
+    }
+
+    @Test
+    void builtInPatternsAreNotCatastrophic() {
+        RuleSet.builtInPatterns().forEach((rule, pattern) ->
+                assertFalse(RegexAnalyzer.analyze(pattern.pattern()).isCatastrophic(), rule + " " + pattern));
+    }
+
+    @Test
+    void prefixOverlapIsOnlyAWarningWhenUndecided() {
+        final RegexReport report = RegexAnalyzer.analyze("(a+b|a)*");
+        assertFalse(report.isCatastrophic());
+        assertEquals(RegexReport.Issue.POSSIBLE_OVERLAPPING_ALTERNATION, report.getFindings().get(0).getIssue());
+    }
+}
@@ -0,0 +1,68 @@
+package io.zeko.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ValidationPlanTest {
+    private static final Map<String, String> MESSAGES = new HashMap<String, String>() {
+        @Override
+        public String get(Object key) {
+            return "{f} " + key;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return true;
+        }
+
+        @Override
+        public String getOrDefault(Object key, String defaultValue) {
+            return get(key);
+        }
+    };
+
+    private static final String[] RULES = {
+            "required, alphaNum, maxLength;6",
+            "required, hasDigit, hasLetter, minLength;3",
+            "optional, allLowerCase, startWith;ab, endWith;z",
+            "required, regex;[a-z]+\\d*, length;2;5, allUpperCase",
+            "required, regex;\\Qab\\E+",
+            "required, regexLinear;\\Qab\\E+, regexLinear;\\d{3}",
+            "required, colorHex, hasDigit, alphaNumDash",
+            "optional, alphaQuoteDashSpace, hasLetter, allUpperCase",
+            "required, alphaNumDashSpace, isInteger"
+    };
+
+    private static final String[] INPUTS = {
+            "", "abc", "ab12", "ABC", "\u00df", "abz", "a\nb1", "#fff", "123", "12-3 4", "abcdefgh1", "\u00c0BC", "\u0130",
+            "xyz\ud83d\ude00", "abb", "abab", null
+    };
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void fusedRulesReportSameAsInvokeCheck() {
+        for (String ruleString : RULES) {
+            final ValidationPlan plan = ValidationPlan.compile(Collections.singletonMap("f", ruleString), "{f}", MESSAGES);
+            for (String value : INPUTS) {
+                final Map<String, String> input = new HashMap<>();
+                input.put("f", value);
+                final Notification fused = plan.validate(input::get, new Notification("{f}", MESSAGES), false);
+                final Notification invoked = new Notification("{f}", MESSAGES);
+                Validator.invokeCheck((Map) Validator.parseRules(ruleString), NoteAllValidator.valid(input::get, "f", invoked));
+                assertEquals(messages(invoked), messages(fused), ruleString + " on '" + value + "'");
+            }
+        }
+    }
+
+    private static TreeSet<String> messages(Notification note) {
+        final List<String> messages = note.getMessages().get("f");
+        return messages == null ? new TreeSet<>() : new TreeSet<>(messages);
+    }
+}